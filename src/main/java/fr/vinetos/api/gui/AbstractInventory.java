@@ -39,44 +39,103 @@ package fr.vinetos.api.gui;
 
 import org.apache.commons.lang.Validate;
 import org.bukkit.Bukkit;
+import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.ref.WeakReference;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 
 public abstract class AbstractInventory {
 
-    private static final List<AbstractInventory> abstractInventories = new CopyOnWriteArrayList<>();
+    private static final GuiRegistry registry = new GuiRegistry();
+    private static final Map<Class<?>, AbstractInventory> inventoriesByType = new ConcurrentHashMap<>();
+    // Weak so that the index never keeps a weakly referenced GUI alive, the registry pins the others
+    private static final Map<OpenerKey, List<WeakReference<AbstractInventory>>> openers = new ConcurrentHashMap<>();
     private final String name;
     private final int slots;
+    private final GuiMode mode;
+    private GuiLifecycle lifecycle;
+    private GuiRegistry.Registration registration;
     private String displayName;
-    private ArrayList<InventoryItemSlot> items;
+    private final InventoryItemSlot[] items;
+    private InventoryLayout layout;
+    private final BitSet dirtySlots;
+    private final BitSet usedSlots;
+    // Slots holding a PlayerItemStackSlot
+    private final BitSet playerSlots;
+    private int[] fillOrder;
+    private final MethodHandle[][] clickHandlers;
+    private SlotClickHandler[][] slotClickHandlers;
+    // Created on first use, most GUIs are never measured
+    private volatile GuiMetrics metrics;
+    // Always counted, whether metrics are enabled or not
+    private final LongAdder throttledClicks = new LongAdder();
+    private long clickInterval;
+    private int editDepth;
+    // Changes submitted from any thread, applied on the main thread
+    private final Queue<Consumer<? super AbstractInventory>> mutations = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean mutationsScheduled = new AtomicBoolean();
+    private final Map<UUID, GuiSession> sessions;
+    // Being shown to its player, not closed by the close of the previous view
+    private GuiSession opening;
     protected ItemStack opener;
+    private OpenerKey openerKey;
+    private final WeakReference<AbstractInventory> self = new WeakReference<>(this);
     private Inventory inventory;
-//    private List<Inventory> inventories;
 
     public AbstractInventory(int slots, String name, String displayName) {
+        this(slots, name, displayName, false);
+    }
+
+    public AbstractInventory(int slots, String name, String displayName, boolean personal) {
+        this(slots, name, displayName, personal ? GuiMode.PERSONAL : GuiMode.SHARED);
+    }
+
+    public AbstractInventory(int slots, String name, String displayName, GuiMode mode) {
         Validate.isTrue((slots > 0 && slots % 9 == 0) || slots == 5);
         Validate.notEmpty(name, "Name cannot be null or empty");
+        Validate.notNull(mode);
 
         this.name = name;
         this.displayName = (displayName == null || displayName.length() == 0) ? this.name : displayName;
 
         this.slots = slots;
-        this.items = new ArrayList<>();
-        // TODO: 05/09/2017 Create pages with inventories
-//        this.inventories = new ArrayList<>();
-        log("Create inventory with properties");
-        abstractInventories.add(this);
+        this.mode = mode;
+        this.items = new InventoryItemSlot[slots];
+        this.sessions = new HashMap<>();
+        this.dirtySlots = new BitSet(slots);
+        this.usedSlots = new BitSet(slots);
+        this.playerSlots = new BitSet(slots);
+        this.fillOrder = FillStrategy.ROW_MAJOR.getSlots(slots);
+        this.clickHandlers = ClickDispatcher.getTable(getClass());
+        if (BukkitGUIAPI.DEBUG_MODE)
+            log("Create inventory with properties");
+        this.lifecycle = GuiLifecycle.PERSISTENT;
+        this.registration = registry.register(this, false, null);
     }
 
     public static <T extends AbstractInventory> T getOrCreateInventory(Class<T> inventoryClass) {
@@ -84,7 +143,26 @@ public abstract class AbstractInventory {
     }
 
     public static List<AbstractInventory> getAbstractInventories() {
-        return Collections.unmodifiableList(abstractInventories);
+        return Collections.unmodifiableList(registry.snapshot());
+    }
+
+    static void removeOwnedBy(UUID ownerId) {
+        for (AbstractInventory inventory : registry.removeOwnedBy(ownerId))
+            inventory.remove();
+    }
+
+    static AbstractInventory getInventoryByType(Class<?> inventoryClass) {
+        return inventoriesByType.get(inventoryClass);
+    }
+
+    // Only once fully constructed, the map publishes it to the other threads
+    static void registerByType(AbstractInventory inventory) {
+        if (inventory.registration != null && !inventory.registration.isWeak() && inventory.lifecycle == GuiLifecycle.PERSISTENT)
+            inventoriesByType.putIfAbsent(inventory.getClass(), inventory);
+    }
+
+    static List<WeakReference<AbstractInventory>> getInventoriesByOpener(OpenerKey openerKey) {
+        return openers.get(openerKey);
     }
 
     public String getName() {
@@ -106,109 +184,593 @@ public abstract class AbstractInventory {
     }
 
     public void setOpener(ItemStack opener) {
+        setOpener(opener, OpenerKey.of(opener));
+    }
+
+    public void setOpener(ItemTemplate opener) {
+        setOpener(opener == null ? null : opener.getItemStack(), OpenerKey.of(opener));
+    }
+
+    private void setOpener(ItemStack opener, OpenerKey openerKey) {
+        unregisterOpener();
+
         this.opener = opener;
+        this.openerKey = openerKey;
+
+        if (openerKey != null) {
+            final List<WeakReference<AbstractInventory>> inventories = openers.computeIfAbsent(openerKey, key -> new CopyOnWriteArrayList<>());
+            // Forget the collected GUIs sharing this opener
+            inventories.removeIf(reference -> reference.get() == null);
+            inventories.add(self);
+        }
+    }
+
+    private void unregisterOpener() {
+        if (openerKey == null)
+            return;
+
+        openers.computeIfPresent(openerKey, (key, inventories) -> {
+            inventories.remove(self);
+            return inventories.isEmpty() ? null : inventories;
+        });
+        openerKey = null;
     }
 
     public boolean isValidOpener(ItemStack itemStack) {
-        return opener != null && itemStack != null && (opener.getType() == itemStack.getType() && opener.getData() == itemStack.getData() && opener.getAmount() == itemStack.getAmount() && (opener.hasItemMeta() && itemStack.hasItemMeta() && opener.getItemMeta().getDisplayName().toLowerCase().equals(itemStack.getItemMeta().getDisplayName().toLowerCase())));
+        return openerKey != null && openerKey.equals(OpenerKey.of(itemStack));
     }
 
     public int getSlots() {
         return slots;
     }
 
+    public GuiMetrics getMetrics() {
+        GuiMetrics metrics = this.metrics;
+        if (metrics == null) {
+            synchronized (throttledClicks) {
+                metrics = this.metrics;
+                if (metrics == null)
+                    this.metrics = metrics = new GuiMetrics(name, throttledClicks);
+            }
+        }
+        return metrics;
+    }
+
+    public GuiMode getMode() {
+        return mode;
+    }
+
+    public boolean isPersonal() {
+        return mode == GuiMode.PERSONAL;
+    }
+
+    public InventoryLayout getLayout() {
+        if (layout == null)
+            layout = new InventoryLayout(items);
+        return layout;
+    }
+
+    // Minimum time between two handled clicks of a player on the same slot, 0 to disable
+    public void setClickInterval(long interval, TimeUnit unit) {
+        Validate.isTrue(interval >= 0, "Interval cannot be negative");
+
+        this.clickInterval = unit.toNanos(interval);
+    }
+
+    boolean throttleClick(Player player, int slot, long now) {
+        if (clickInterval == 0)
+            return false;
+
+        final GuiSession session = sessions.get(player.getUniqueId());
+        if (session == null || session.tryClick(slot, now, clickInterval))
+            return false;
+
+        throttledClicks.increment();
+        return true;
+    }
+
+    BitSet getPlayerSlots() {
+        return playerSlots;
+    }
+
+    public GuiSession getSession(Player player) {
+        return sessions.get(player.getUniqueId());
+    }
+
+    public Collection<GuiSession> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
     public final List<InventoryItemSlot> getItems() {
-        return Collections.unmodifiableList(items);
+        List<InventoryItemSlot> list = new ArrayList<>();
+        for (InventoryItemSlot item : items)
+            if (item != null)
+                list.add(item);
+        return Collections.unmodifiableList(list);
     }
 
-    public void addItem(int slot, ItemStack stack) {
+    public InventoryItemSlot getItem(int slot) {
         Validate.isTrue(slot >= 0 && slot < slots);
-        Validate.notNull(stack);
 
-        items.add(new ItemStackSlot(stack, slot));
+        return items[slot];
+    }
+
+    public void setItem(InventoryItemSlot item) {
+        Validate.notNull(item);
+        Validate.isTrue(item.getSlot() >= 0 && item.getSlot() < slots);
+        Validate.isTrue(mode != GuiMode.SHARED || !(item instanceof PlayerItemStackSlot),
+                "Per-player items need a personal or broadcast inventory");
+
+        // Replace any item already in this slot
+        detach(items[item.getSlot()]);
+        items[item.getSlot()] = item;
+        usedSlots.set(item.getSlot());
+        playerSlots.set(item.getSlot(), item instanceof PlayerItemStackSlot);
+        if (item instanceof UpdatableItemStackSlot)
+            ((UpdatableItemStackSlot) item).setOwner(this);
+
+        markDirty(item.getSlot());
+        requestFlush();
+    }
+
+    public InventoryItemSlot removeItem(int slot) {
+        Validate.isTrue(slot >= 0 && slot < slots);
+
+        InventoryItemSlot removed = items[slot];
+        items[slot] = null;
+        usedSlots.clear(slot);
+        playerSlots.clear(slot);
+
+        if (removed != null) {
+            detach(removed);
+            markDirty(slot);
+            requestFlush();
+        }
+        return removed;
+    }
+
+    private void detach(InventoryItemSlot item) {
+        if (item instanceof AsyncItemStackSlot)
+            ((AsyncItemStackSlot) item).cancel();
+        if (item instanceof UpdatableItemStackSlot && ((UpdatableItemStackSlot) item).getOwner() == this)
+            ((UpdatableItemStackSlot) item).setOwner(null);
+    }
 
+    void markDirty(int slot) {
+        dirtySlots.set(slot);
+        layout = null;
+    }
+
+    // Merge the changes of the current tick into a single flush
+    void requestFlush() {
+        if (editDepth > 0)
+            return;
+
+        final GuiScheduler scheduler = BukkitGUIAPI.getScheduler();
+        final Plugin plugin = BukkitGUIAPI.getPlugin();
+        if (scheduler == null || !plugin.isEnabled())
+            flush();
+        else
+            scheduler.requestFlush(this);
+    }
+
+    void collectDueSlots(long tick, Queue<UpdatableItemStackSlot> queue) {
+        for (InventoryItemSlot item : items) {
+            if (!(item instanceof UpdatableItemStackSlot))
+                continue;
+
+            final UpdatableItemStackSlot slot = (UpdatableItemStackSlot) item;
+            if (slot.getRefreshInterval() > 0 && !slot.queued && slot.nextRefresh <= tick) {
+                slot.queued = true;
+                queue.add(slot);
+            }
+        }
+    }
+
+    // Write the changed slots into the open inventories, the server sends them to the viewers
+    void flush() {
+        if (dirtySlots.isEmpty())
+            return;
+
+        // Written once for every viewer of the shared inventory
         if (inventory != null)
-            inventory.getViewers().forEach(humanEntity -> ((Player) humanEntity).updateInventory());
+            for (int slot = dirtySlots.nextSetBit(0); slot >= 0; slot = dirtySlots.nextSetBit(slot + 1))
+                inventory.setItem(slot, items[slot] == null ? null : items[slot].getItemStack());
+
+        // Per-player items cannot be shown in the shared inventory
+        if (mode == GuiMode.BROADCAST && !playerSlots.isEmpty())
+            for (GuiSession session : sessions.values())
+                if (session.getInventory() == inventory)
+                    session.copyInventory();
+
+        // Then for each viewer having its own inventory
+        if (mode != GuiMode.SHARED)
+            for (GuiSession session : sessions.values())
+                if (session.getInventory() != inventory)
+                    for (int slot = dirtySlots.nextSetBit(0); slot >= 0; slot = dirtySlots.nextSetBit(slot + 1))
+                        session.refresh(slot);
+        dirtySlots.clear();
+    }
+
+    public void addItem(int slot, ItemStack stack) {
+        Validate.notNull(stack);
+
+        setItem(new ItemStackSlot(stack, slot));
+    }
+
+    public void addItem(int slot, ItemTemplate template) {
+        Validate.notNull(template);
+
+        setItem(new ItemStackSlot(template, slot));
     }
 
     public void addItems(Map<Integer, ItemStack> items) {
-        for (Map.Entry<Integer, ItemStack> entry : items.entrySet())
-            addItem(entry.getKey(), entry.getValue());
+        edit(gui -> {
+            for (Map.Entry<Integer, ItemStack> entry : items.entrySet())
+                gui.addItem(entry.getKey(), entry.getValue());
+        });
     }
 
     public void addItems(InventoryItemSlot... items) {
-        for (InventoryItemSlot item : items)
-            addItem(item.getSlot(), item.getItemStack());
+        edit(gui -> {
+            for (InventoryItemSlot item : items)
+                gui.setItem(item);
+        });
     }
 
     public void addItem(ItemStack... stacks) {
         if (stacks == null || stacks.length == 0)
             return;
 
-        if (items.isEmpty()) {
+        int[] availableSlots = new int[stacks.length];
+        int found = 0;
+        for (int i = 0; i < fillOrder.length && found < stacks.length; i++)
+            if (!usedSlots.get(fillOrder[i]))
+                availableSlots[found++] = fillOrder[i];
+
+        if (found < stacks.length)
+            throw new IllegalArgumentException("There are too much item to add !");
+
+        edit(gui -> {
             for (int i = 0; i < stacks.length; i++)
-                addItem(i + 1, stacks[i]);
+                gui.addItem(availableSlots[i], stacks[i]);
+        });
+    }
 
-        } else {
-            List<Integer> availableSlots = IntStream.rangeClosed(0, inventory.getSize()).boxed().collect(Collectors.toList());
-            availableSlots.removeAll(items.stream().map(InventoryItemSlot::getSlot).collect(Collectors.toList()));
+    // Where addItem(ItemStack...) places the items
+    public void setFillStrategy(FillStrategy fillStrategy) {
+        Validate.notNull(fillStrategy);
 
-            if (stacks.length > availableSlots.size())
-                throw new IllegalArgumentException("There are too much item to add !");
+        final int[] order = fillStrategy.getSlots(slots);
+        for (int slot : order)
+            Validate.isTrue(slot >= 0 && slot < slots, "Slot " + slot + " is out of the inventory");
+        this.fillOrder = order;
+    }
 
-            for (int i = 0; i < stacks.length; i++)
-                addItem(availableSlots.get(i), stacks[i]);
+    // Apply many changes and send them to the viewers at once
+    public void edit(Consumer<? super AbstractInventory> editor) {
+        Validate.notNull(editor);
 
+        editDepth++;
+        try {
+            editor.accept(this);
+        } finally {
+            editDepth--;
         }
+
+        if (editDepth == 0)
+            flush();
+    }
+
+    // Thread safe, the change is applied with the others submitted during the tick
+    public void submit(Consumer<? super AbstractInventory> mutation) {
+        Validate.notNull(mutation);
+
+        final GuiScheduler scheduler = BukkitGUIAPI.getScheduler();
+        Validate.notNull(scheduler, "BukkitGUIAPI must be initialized to submit changes");
+
+        mutations.add(mutation);
+        if (mutationsScheduled.compareAndSet(false, true))
+            scheduler.requestMutations(this);
+    }
+
+    void applyMutations() {
+        // Mutations submitted from now on schedule another pass
+        mutationsScheduled.set(false);
+
+        edit(gui -> {
+            Consumer<? super AbstractInventory> mutation;
+            while ((mutation = mutations.poll()) != null) {
+                try {
+                    mutation.accept(gui);
+                } catch (RuntimeException e) {
+                    Bukkit.getLogger().log(Level.WARNING, "Could not apply a change to " + name, e);
+                }
+            }
+        });
     }
 
     public void open(Player player) {
-        if (inventory == null)
-            inventory = Bukkit.createInventory(null, slots, displayName);
-        // Fill inventory
-        items.forEach(item -> inventory.setItem(item.getSlot(), item.getItemStack()));
+        final boolean measured = BukkitGUIAPI.METRICS_ENABLED;
+        final long start = measured ? System.nanoTime() : 0L;
+
+        final GuiSession session;
+        if (mode == GuiMode.PERSONAL) {
+            final Inventory sessionInventory = createInventory(null);
+            session = new GuiSession(this, player, sessionInventory);
+            ((GuiHolder) sessionInventory.getHolder()).setSession(session);
+
+            // Fill inventory
+            session.render();
+        } else {
+            // The shared inventory is kept up to date by the flushes, broadcast sessions copy it when personalized
+            if (inventory == null) {
+                inventory = createInventory(null);
+                inventory.setContents(getLayout().getContents());
+            } else {
+                flush();
+            }
+            session = new GuiSession(this, player, inventory);
+            if (mode == GuiMode.BROADCAST && !playerSlots.isEmpty())
+                session.copyInventory();
+        }
+
+        onSessionOpen(session);
+
+        // Registered first, the close of the current view must not release what is being opened
+        final UUID playerId = player.getUniqueId();
+        final GuiSession previous = sessions.put(playerId, session);
+        opening = session;
+        final boolean opened;
+        try {
+            opened = player.openInventory(session.getInventory()) != null;
+        } finally {
+            opening = null;
+        }
+
+        // This player had already opened this GUI
+        if (previous != null)
+            endSession(previous, playerId);
+
+        if (opened) {
+            session.setView(session.getInventory());
+
+            final GuiScheduler scheduler = BukkitGUIAPI.getScheduler();
+            if (scheduler != null)
+                scheduler.watch(this);
+        } else {
+            sessions.remove(playerId);
+            endSession(session, playerId);
+            closeIfUnviewed(playerId);
+        }
+
+        if (measured)
+            getMetrics().recordOpen(System.nanoTime() - start);
+    }
+
+    // Show its copy to a session viewing the shared inventory on the next tick
+    void requestViewSwitch(GuiSession session) {
+        final GuiScheduler scheduler = BukkitGUIAPI.getScheduler();
+        final Plugin plugin = BukkitGUIAPI.getPlugin();
+        if (scheduler == null || !plugin.isEnabled())
+            switchView(session);
+        else
+            scheduler.requestViewSwitch(session);
+    }
+
+    void switchView(GuiSession session) {
+        // Closed or reopened in the meantime
+        final UUID playerId = session.getPlayerId();
+        if (session.isClosed() || sessions.get(playerId) != session || session.getView() == session.getInventory())
+            return;
+
+        opening = session;
+        final boolean opened;
+        try {
+            opened = session.getPlayer().openInventory(session.getInventory()) != null;
+        } finally {
+            opening = null;
+        }
+
+        if (opened) {
+            session.setView(session.getInventory());
+        } else {
+            sessions.remove(playerId);
+            endSession(session, playerId);
+            closeIfUnviewed(playerId);
+        }
+    }
+
+    public boolean hasViewers() {
+        return !sessions.isEmpty();
+    }
 
-        player.openInventory(inventory);
+    void closeSession(UUID playerId, Inventory closedInventory) {
+        final GuiSession session = sessions.get(playerId);
+
+        // The player may already have reopened this GUI
+        if (session == null || session == opening || session.getView() != closedInventory)
+            return;
+
+        sessions.remove(playerId);
+        endSession(session, playerId);
+        closeIfUnviewed(playerId);
+    }
+
+    private void endSession(GuiSession session, UUID playerId) {
+        final Inventory sessionInventory = session.close();
+
+        // The inventory of this viewer only can be used by another session
+        if (sessionInventory != null && sessionInventory != inventory && !isViewedByOthers(sessionInventory, playerId))
+            BukkitGUIAPI.INVENTORY_POOL.release(sessionInventory);
+    }
+
+    private void closeIfUnviewed(UUID playerId) {
+        if (!sessions.isEmpty())
+            return;
+
+        // Nobody sees the results anymore
+        for (InventoryItemSlot item : items)
+            if (item instanceof AsyncItemStackSlot)
+                ((AsyncItemStackSlot) item).cancel();
+
+        final GuiScheduler scheduler = BukkitGUIAPI.getScheduler();
+        if (scheduler != null)
+            scheduler.unwatch(this);
+
+        // Built again from the layout on the next open
+        if (inventory != null && !isViewedByOthers(inventory, playerId)) {
+            BukkitGUIAPI.INVENTORY_POOL.release(inventory);
+            inventory = null;
+        }
+
+        if (lifecycle == GuiLifecycle.ONE_SHOT)
+            remove();
+    }
+
+    // The closing player is still a viewer during the close event
+    private static boolean isViewedByOthers(Inventory inventory, UUID playerId) {
+        for (HumanEntity viewer : inventory.getViewers())
+            if (!viewer.getUniqueId().equals(playerId))
+                return true;
+        return false;
     }
 
     public void update() {
-        // recreate inventory
-        inventory = Bukkit.createInventory(null, slots, displayName);
+        final boolean measured = BukkitGUIAPI.METRICS_ENABLED;
+        final long start = measured ? System.nanoTime() : 0L;
 
-        // Update needed item
+        // Update needed item, changed ones are marked dirty
         for (InventoryItemSlot is : items)
             if (is instanceof UpdatableItemStackSlot)
                 ((UpdatableItemStackSlot) is).update();
 
-        // Fill inventory
-        items.forEach(item -> inventory.setItem(item.getSlot(), item.getItemStack()));
+        flush();
+
+        if (measured)
+            getMetrics().recordUpdate(System.nanoTime() - start);
+    }
+
+    // Taken from the pool, fully overwritten by the caller
+    Inventory createInventory(GuiSession session) {
+        final Inventory inventory = BukkitGUIAPI.INVENTORY_POOL.acquire(slots, displayName);
+        ((GuiHolder) inventory.getHolder()).bind(this, session);
+        return inventory;
     }
 
     public void remove() {
-        abstractInventories.remove(this);
+        unregisterOpener();
+        registry.unregister(registration);
+        registration = null;
+        inventoriesByType.remove(getClass(), this);
+    }
+
+    public GuiLifecycle getLifecycle() {
+        return lifecycle;
+    }
+
+    public void setLifecycle(GuiLifecycle lifecycle) {
+        setLifecycle(lifecycle, null);
+    }
+
+    public void setLifecycle(GuiLifecycle lifecycle, Player owner) {
+        Validate.notNull(lifecycle);
+        Validate.isTrue(lifecycle != GuiLifecycle.SESSION || owner != null, "A session GUI needs an owner");
+
+        this.lifecycle = lifecycle;
+        // Temporary GUIs are never shared by type
+        if (lifecycle != GuiLifecycle.PERSISTENT)
+            inventoriesByType.remove(getClass(), this);
+        register(registration != null && registration.isWeak(), owner == null ? null : owner.getUniqueId());
+    }
+
+    public boolean isWeaklyReferenced() {
+        return registration != null && registration.isWeak();
+    }
+
+    // The GUI is then only kept alive by the plugin and the opened inventories
+    public void setWeaklyReferenced(boolean weak) {
+        if (weak)
+            inventoriesByType.remove(getClass(), this);
+        register(weak, registration == null ? null : registration.getOwnerId());
+    }
+
+    private void register(boolean weak, UUID ownerId) {
+        // Already removed
+        if (registration == null)
+            return;
+
+        registry.unregister(registration);
+        registration = registry.register(this, weak, ownerId);
+    }
+
+    protected void onSessionOpen(GuiSession session) {
+    }
+
+    public void onClick(int slot, SlotClickHandler handler) {
+        for (ClickType clickType : ClickType.values())
+            onClick(slot, clickType, handler);
+    }
+
+    public void onClick(int slot, ClickType clickType, SlotClickHandler handler) {
+        Validate.isTrue(slot >= 0 && slot < slots);
+        Validate.notNull(clickType);
+
+        if (slotClickHandlers == null)
+            slotClickHandlers = new SlotClickHandler[slots][];
+        if (slotClickHandlers[slot] == null)
+            slotClickHandlers[slot] = new SlotClickHandler[ClickType.values().length];
+        slotClickHandlers[slot][clickType.ordinal()] = handler;
+    }
+
+    // Registered handler, then @ClickHandler method, then onItemClick
+    void dispatchClick(int slot, Player player, ItemStack itemStack, ClickType clickType, InventoryClickEvent event) {
+        final SlotClickHandler[] slotHandlers = slotClickHandlers == null ? null : slotClickHandlers[slot];
+        if (slotHandlers != null && slotHandlers[clickType.ordinal()] != null) {
+            event.setCancelled(true);
+            slotHandlers[clickType.ordinal()].onClick(player, itemStack, clickType, event);
+            return;
+        }
+
+        final MethodHandle[] handlers = slot < clickHandlers.length ? clickHandlers[slot] : null;
+        if (handlers != null && handlers[clickType.ordinal()] != null) {
+            event.setCancelled(true);
+            try {
+                handlers[clickType.ordinal()].invokeExact(this, player, itemStack, clickType, event);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+            return;
+        }
+
+        onItemClick(player, itemStack, clickType, event);
     }
 
     public void onItemClick(Player player, ItemStack itemStack, ClickType clickType, InventoryClickEvent event) {
         event.setCancelled(true);
-        log("onItemClick with " + player + ", " + itemStack + ", " + clickType);
+        // Don't build the message when it is not logged
+        if (BukkitGUIAPI.DEBUG_MODE)
+            log("onItemClick with " + player + ", " + itemStack + ", " + clickType);
     }
 
     public void onItemInteract(Player player, PlayerInteractEvent event) {
         event.setCancelled(true);
-        log("onItemInteract with " + player);
+        if (BukkitGUIAPI.DEBUG_MODE)
+            log("onItemInteract with " + player);
     }
 
     @Override
     public String toString() {
         return getClass().getName() + '{' + "name=" + name
-                + ",slots=" + slots + ",displayName=" + displayName
+                + ",slots=" + slots + ",mode=" + mode + ",displayName=" + displayName
                 + ",opener=" + opener + ",inventory=" + inventory +
-                ",items=" + items.toString() + '}';
+                ",items=" + Arrays.toString(items) + '}';
     }
 
     private void log(String message) {
-        if (BukkitGUIAPI.DEBUG_MODE)
-            Bukkit.getLogger().info(message + " from " + toString());
+        Bukkit.getLogger().info(message + " from " + toString());
     }
 
 }
@@ -0,0 +1,107 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import org.apache.commons.lang.Validate;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Arrays;
+
+// Cycles through precomputed frames following the tick of the GuiScheduler
+public class AnimatedItemStackSlot extends UpdatableItemStackSlot {
+
+    private final ItemStack[] frames;
+    private int frame;
+
+    public AnimatedItemStackSlot(int slot, int frameTicks, ItemStack... frames) {
+        super(frames.length == 0 ? null : frames[0], slot, frameTicks);
+        Validate.isTrue(frameTicks > 0, "A frame lasts at least one tick");
+        Validate.notEmpty(frames, "An animation needs frames");
+        Validate.noNullElements(frames);
+
+        this.frames = frames.clone();
+    }
+
+    public AnimatedItemStackSlot(int slot, int frameTicks, ItemTemplate... frames) {
+        this(slot, frameTicks, Arrays.stream(frames).map(ItemTemplate::getItemStack).toArray(ItemStack[]::new));
+    }
+
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+    public int getFrame() {
+        return frame;
+    }
+
+    @Override
+    public void setRefreshInterval(int refreshInterval) {
+        Validate.isTrue(refreshInterval > 0, "A frame lasts at least one tick");
+
+        super.setRefreshInterval(refreshInterval);
+    }
+
+    @Override
+    public final void update() {
+        final GuiScheduler scheduler = BukkitGUIAPI.getScheduler();
+        final long tick = scheduler == null ? (long) (frame + 1) * getRefreshInterval() : scheduler.getTick();
+        final int next = (int) (tick / getRefreshInterval() % frames.length);
+        if (next == frame)
+            return;
+
+        final ItemStack previous = frames[frame];
+        frame = next;
+
+        // Identical consecutive frames are not written again, repeated templates are the same instance
+        if (frames[next] == previous || frames[next].equals(previous))
+            return;
+        setItemStack(frames[next]);
+    }
+
+    // Every animation changes frame on the same ticks
+    @Override
+    long scheduleAfter(long tick) {
+        return tick - tick % getRefreshInterval() + getRefreshInterval();
+    }
+
+    @Override
+    public String toString() {
+        return "AnimatedItemStackSlot{" + "frames=" + frames.length + ",frame=" + frame
+                + ",slot=" + getSlot() + ",frameTicks=" + getRefreshInterval() + '}';
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import org.apache.commons.lang.Validate;
+import org.bukkit.Bukkit;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+
+public abstract class AsyncItemStackSlot extends UpdatableItemStackSlot {
+
+    private CompletableFuture<ItemStack> pending;
+    private volatile int generation;
+
+    public AsyncItemStackSlot(ItemStack placeholder, int slot) {
+        super(placeholder, slot);
+    }
+
+    public AsyncItemStackSlot(ItemStack placeholder, int slot, int refreshInterval) {
+        super(placeholder, slot, refreshInterval);
+    }
+
+    // Called off the main thread, never touch the Bukkit API here
+    protected abstract ItemStack compute();
+
+    protected CompletableFuture<ItemStack> computeAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(this::compute, executor);
+    }
+
+    @Override
+    public final void update() {
+        final Plugin plugin = BukkitGUIAPI.getPlugin();
+        Validate.notNull(plugin, "BukkitGUIAPI is not initialized");
+
+        // Only the latest computation can be applied
+        cancel();
+        final int generation = this.generation;
+
+        pending = computeAsync(BukkitGUIAPI.getAsyncExecutor());
+        pending.whenComplete((itemStack, throwable) -> {
+            if (generation != this.generation || !plugin.isEnabled())
+                return;
+
+            if (Bukkit.isPrimaryThread())
+                apply(generation, itemStack, throwable);
+            else
+                Bukkit.getScheduler().runTask(plugin, () -> apply(generation, itemStack, throwable));
+        });
+    }
+
+    private void apply(int generation, ItemStack itemStack, Throwable throwable) {
+        // Cancelled or replaced by a newer computation
+        if (generation != this.generation)
+            return;
+        pending = null;
+
+        if (throwable != null) {
+            Bukkit.getLogger().log(Level.WARNING, "Could not compute the item of " + this, throwable);
+            return;
+        }
+
+        final AbstractInventory owner = getOwner();
+        if (itemStack == null || owner == null || !owner.hasViewers())
+            return;
+
+        setItemStack(itemStack);
+        owner.requestFlush();
+    }
+
+    void cancel() {
+        generation++;
+
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncItemStackSlot{" + "itemStack=" + getItemStack()
+                + ",slot=" + getSlot() + ",refreshInterval=" + getRefreshInterval() + '}';
+    }
+}
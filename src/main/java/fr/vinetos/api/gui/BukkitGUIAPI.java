@@ -37,33 +37,162 @@
  */
 package fr.vinetos.api.gui;
 
+import org.apache.commons.lang.Validate;
 import org.bukkit.plugin.Plugin;
 
-import java.util.Optional;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 public class BukkitGUIAPI {
 
+    // No-arg constructor of each inventory type, looked up once
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                final Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return MethodHandles.lookup().unreflectConstructor(constructor);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new Error(e);
+            }
+        }
+    };
+    // Held while the inventory of a type is created, never visible outside
+    private static final ClassValue<Object> CREATION_LOCKS = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            return new Object();
+        }
+    };
+
     static boolean DEBUG_MODE = false;
+    static boolean METRICS_ENABLED = false;
+    static final ClickLimiter CLICK_LIMITER = new ClickLimiter(64);
+    static final InventoryPool INVENTORY_POOL = new InventoryPool();
+    private static Plugin plugin;
+    private static GuiScheduler scheduler;
+    private static Executor asyncExecutor;
 
     public static void init(Plugin plugin) {
+        BukkitGUIAPI.plugin = plugin;
+        BukkitGUIAPI.scheduler = new GuiScheduler();
         plugin.getServer().getPluginManager().registerEvents(new InventoryListener(), plugin);
+        plugin.getServer().getScheduler().runTaskTimer(plugin, scheduler, 1L, 1L);
     }
 
     public static <T extends AbstractInventory> T getOrCreateInventory(Class<T> inventoryClass) {
-        Optional<AbstractInventory> any = AbstractInventory.getAbstractInventories().stream().filter(typeClass -> typeClass.getClass().equals(inventoryClass))
-                .findAny();
+        AbstractInventory inventory = AbstractInventory.getInventoryByType(inventoryClass);
+        if (inventory != null)
+            return inventoryClass.cast(inventory);
 
-        return (T) any.orElseGet(() -> {
-            try {
-                return inventoryClass.newInstance();
-            } catch (InstantiationException | IllegalAccessException e) {
-                throw new Error(e);
+        // Only one thread creates the inventory of a type
+        synchronized (CREATION_LOCKS.get(inventoryClass)) {
+            inventory = AbstractInventory.getInventoryByType(inventoryClass);
+            if (inventory == null) {
+                inventory = newInventory(inventoryClass);
+                AbstractInventory.registerByType(inventory);
             }
-        });
+        }
+        return inventoryClass.cast(inventory);
+    }
+
+    private static AbstractInventory newInventory(Class<?> inventoryClass) {
+        try {
+            return (AbstractInventory) CONSTRUCTORS.get(inventoryClass).invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new Error(e);
+        }
+    }
+
+    static Plugin getPlugin() {
+        return plugin;
+    }
+
+    static GuiScheduler getScheduler() {
+        return scheduler;
+    }
+
+    // Time the scheduler may spend refreshing slots each tick
+    public static void setRefreshBudget(long budget, TimeUnit unit) {
+        Validate.isTrue(budget > 0, "Budget must be positive");
+        Validate.notNull(scheduler, "BukkitGUIAPI is not initialized");
+
+        scheduler.setRefreshBudget(unit.toNanos(budget));
+    }
+
+    // Clicks allowed per second and per player in every GUI, 0 to disable
+    public static void setClickRateLimit(double clicksPerSecond, int burst) {
+        Validate.isTrue(burst > 0, "Burst must be positive");
+
+        CLICK_LIMITER.configure(clicksPerSecond, burst);
+    }
+
+    // Clicks cancelled by the rate limit
+    public static long getThrottledClicks() {
+        return CLICK_LIMITER.getThrottled();
+    }
+
+    // Closed inventories kept for reuse for each size and title, 0 to always create new ones
+    public static void setInventoryPoolCapacity(int capacity) {
+        Validate.isTrue(capacity >= 0, "Capacity cannot be negative");
+
+        INVENTORY_POOL.setCapacity(capacity);
+    }
+
+    // Time after which an unused pooled inventory is dropped
+    public static void setInventoryPoolIdleTimeout(long timeout, TimeUnit unit) {
+        Validate.isTrue(timeout > 0, "Timeout must be positive");
+
+        INVENTORY_POOL.setIdleTimeout(unit.toNanos(timeout));
+    }
+
+    // Closed inventories currently waiting in the pool
+    public static int getPooledInventories() {
+        return INVENTORY_POOL.getIdleCount();
+    }
+
+    // Bukkit inventories created since the start, reused ones excluded
+    public static long getCreatedInventories() {
+        return INVENTORY_POOL.getCreated();
+    }
+
+    public static long getReusedInventories() {
+        return INVENTORY_POOL.getReused();
+    }
+
+    // Runs AsyncItemStackSlot computations, Bukkit async tasks by default
+    static Executor getAsyncExecutor() {
+        if (asyncExecutor != null)
+            return asyncExecutor;
+        return command -> plugin.getServer().getScheduler().runTaskAsynchronously(plugin, command);
+    }
+
+    static Executor getMainThreadExecutor() {
+        return command -> {
+            if (plugin.getServer().isPrimaryThread())
+                command.run();
+            else
+                plugin.getServer().getScheduler().runTask(plugin, command);
+        };
+    }
+
+    public static void setAsyncExecutor(Executor executor) {
+        asyncExecutor = executor;
     }
 
     public static void setDebugMode(boolean debugMode) {
         DEBUG_MODE = debugMode;
     }
 
+    // See AbstractInventory#getMetrics(), also emits JFR events when recording
+    public static void setMetricsEnabled(boolean metricsEnabled) {
+        METRICS_ENABLED = metricsEnabled;
+    }
+
 }
@@ -0,0 +1,116 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+// [slot][clickType] tables of the @ClickHandler methods, built once per class
+final class ClickDispatcher {
+
+    private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class,
+            AbstractInventory.class, Player.class, ItemStack.class, ClickType.class, InventoryClickEvent.class);
+    private static final MethodHandle[][] EMPTY = new MethodHandle[0][];
+    private static final ClassValue<MethodHandle[][]> tables = new ClassValue<MethodHandle[][]>() {
+        @Override
+        protected MethodHandle[][] computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private ClickDispatcher() {
+    }
+
+    static MethodHandle[][] getTable(Class<? extends AbstractInventory> inventoryClass) {
+        return tables.get(inventoryClass);
+    }
+
+    private static MethodHandle[][] compile(Class<?> inventoryClass) {
+        MethodHandle[][] table = EMPTY;
+
+        // Subclasses first, so they can replace the handlers of their parents
+        for (Class<?> type = inventoryClass; type != AbstractInventory.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                final ClickHandler handler = method.getAnnotation(ClickHandler.class);
+                if (handler == null)
+                    continue;
+
+                final MethodHandle methodHandle = unreflect(method);
+                final ClickType[] clickTypes = handler.click().length == 0 ? ClickType.values() : handler.click();
+                for (int slot : handler.slot()) {
+                    if (slot < 0)
+                        throw new IllegalArgumentException("Invalid slot " + slot + " on " + method);
+
+                    if (slot >= table.length)
+                        table = Arrays.copyOf(table, slot + 1);
+                    if (table[slot] == null)
+                        table[slot] = new MethodHandle[ClickType.values().length];
+
+                    for (ClickType clickType : clickTypes)
+                        if (table[slot][clickType.ordinal()] == null)
+                            table[slot][clickType.ordinal()] = methodHandle;
+                }
+            }
+        }
+        return table;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        if (Modifier.isStatic(method.getModifiers())
+                || !Arrays.equals(method.getParameterTypes(), HANDLER_TYPE.dropParameterTypes(0, 1).parameterArray()))
+            throw new IllegalArgumentException(method + " must be an instance method with the parameters of onItemClick");
+
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method)
+                    .asType(HANDLER_TYPE.changeReturnType(method.getReturnType()))
+                    .asType(HANDLER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// On a method with the same parameters as AbstractInventory#onItemClick
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClickHandler {
+
+    int[] slot();
+
+    // Every click type when empty
+    ClickType[] click() default {};
+
+}
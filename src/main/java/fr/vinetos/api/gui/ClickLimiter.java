@@ -0,0 +1,164 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import java.util.Arrays;
+
+// Per-player token bucket kept as one theoretical arrival time (GCRA) in an open addressing table,
+// only used from the main thread
+final class ClickLimiter {
+
+    private static final int FREE = Integer.MIN_VALUE;
+
+    private int[] entityIds;
+    private long[] arrivals;
+    private int mask;
+    private int size;
+    // Nanoseconds between two clicks at the sustained rate, 0 when disabled
+    private long interval;
+    // How far ahead of the sustained rate a burst may go
+    private long tolerance;
+    private long throttled;
+
+    ClickLimiter(int capacity) {
+        allocate(Integer.highestOneBit(Math.max(capacity, 8) - 1) << 1);
+    }
+
+    void configure(double clicksPerSecond, int burst) {
+        if (clicksPerSecond <= 0) {
+            interval = 0;
+            tolerance = 0;
+            Arrays.fill(entityIds, FREE);
+            size = 0;
+            return;
+        }
+
+        interval = (long) (1_000_000_000L / clicksPerSecond);
+        tolerance = interval * (Math.max(burst, 1) - 1);
+    }
+
+    boolean tryAcquire(int entityId, long now) {
+        if (interval == 0)
+            return true;
+
+        int index = indexOf(entityId);
+        long arrival;
+        if (entityIds[index] == FREE) {
+            if (size * 2 >= entityIds.length) {
+                grow();
+                index = indexOf(entityId);
+            }
+            entityIds[index] = entityId;
+            size++;
+            arrival = now;
+        } else {
+            arrival = Math.max(arrivals[index], now);
+        }
+
+        if (arrival - now > tolerance) {
+            throttled++;
+            return false;
+        }
+        arrivals[index] = arrival + interval;
+        return true;
+    }
+
+    void remove(int entityId) {
+        int free = indexOf(entityId);
+        if (entityIds[free] == FREE)
+            return;
+
+        entityIds[free] = FREE;
+        size--;
+
+        // Shift back the following entries so that no lookup stops at the hole
+        for (int index = (free + 1) & mask; entityIds[index] != FREE; index = (index + 1) & mask) {
+            final int home = hash(entityIds[index]);
+            if (((index - home) & mask) >= ((index - free) & mask)) {
+                entityIds[free] = entityIds[index];
+                arrivals[free] = arrivals[index];
+                entityIds[index] = FREE;
+                free = index;
+            }
+        }
+    }
+
+    long getThrottled() {
+        return throttled;
+    }
+
+    private int indexOf(int entityId) {
+        int index = hash(entityId);
+        while (entityIds[index] != FREE && entityIds[index] != entityId)
+            index = (index + 1) & mask;
+        return index;
+    }
+
+    private int hash(int entityId) {
+        final int hash = entityId * 0x9E3779B9;
+        return (hash ^ hash >>> 16) & mask;
+    }
+
+    private void grow() {
+        final int[] oldEntityIds = entityIds;
+        final long[] oldArrivals = arrivals;
+        allocate(oldEntityIds.length << 1);
+
+        for (int i = 0; i < oldEntityIds.length; i++) {
+            if (oldEntityIds[i] == FREE)
+                continue;
+
+            final int index = indexOf(oldEntityIds[i]);
+            entityIds[index] = oldEntityIds[i];
+            arrivals[index] = oldArrivals[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        entityIds = new int[capacity];
+        arrivals = new long[capacity];
+        Arrays.fill(entityIds, FREE);
+        mask = capacity - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "ClickLimiter{" + "players=" + size + ",interval=" + interval + ",tolerance=" + tolerance
+                + ",throttled=" + throttled + '}';
+    }
+}
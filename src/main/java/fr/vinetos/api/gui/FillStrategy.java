@@ -0,0 +1,98 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import org.apache.commons.lang.Validate;
+
+import java.util.BitSet;
+
+public interface FillStrategy {
+
+    FillStrategy ROW_MAJOR = size -> {
+        final int[] order = new int[size];
+        for (int slot = 0; slot < size; slot++)
+            order[slot] = slot;
+        return order;
+    };
+
+    // Each row is filled from its middle to its sides
+    FillStrategy CENTERED = size -> {
+        final int columns = Math.min(size, 9);
+        final int[] order = new int[size];
+        int i = 0;
+        for (int row = 0; row < size; row += columns) {
+            final int middle = row + columns / 2;
+            order[i++] = middle;
+            for (int offset = 1; offset <= columns / 2; offset++) {
+                order[i++] = middle - offset;
+                if (middle + offset < row + columns)
+                    order[i++] = middle + offset;
+            }
+        }
+        return order;
+    };
+
+    // Leave the first and last rows and columns free, for decoration
+    FillStrategy BORDER_EXCLUDED = size -> {
+        final int columns = Math.min(size, 9);
+        final int rows = size / columns;
+        final BitSet mask = new BitSet(size);
+        for (int slot = 0; slot < size; slot++) {
+            final int row = slot / columns;
+            final int column = slot % columns;
+            if (column > 0 && column < columns - 1 && (rows < 3 || (row > 0 && row < rows - 1)))
+                mask.set(slot);
+        }
+        return mask.stream().toArray();
+    };
+
+    // Slots to fill in order, computed once per inventory
+    int[] getSlots(int size);
+
+    static FillStrategy mask(BitSet mask) {
+        Validate.notNull(mask);
+
+        final BitSet copy = (BitSet) mask.clone();
+        return size -> copy.get(0, size).stream().toArray();
+    }
+
+    static FillStrategy mask(long mask) {
+        return mask(BitSet.valueOf(new long[]{mask}));
+    }
+
+}
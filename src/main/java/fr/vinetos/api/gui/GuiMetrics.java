@@ -0,0 +1,153 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class GuiMetrics {
+
+    // Older Java 8 runtimes don't ship JFR, the event class must not be loaded there
+    private static final boolean JFR_AVAILABLE = isJfrAvailable();
+
+    private final String inventoryName;
+    private final LongAdder opens = new LongAdder();
+    private final LongAdder clicks = new LongAdder();
+    private final LongAdder interacts = new LongAdder();
+    private final LongAdder updates = new LongAdder();
+    // Owned by the GUI, counted even before its metrics exist
+    private final LongAdder throttledClicks;
+    private final LatencyHistogram openLatency = new LatencyHistogram();
+    private final LatencyHistogram dispatchLatency = new LatencyHistogram();
+    private final LatencyHistogram updateLatency = new LatencyHistogram();
+
+    GuiMetrics(String inventoryName, LongAdder throttledClicks) {
+        this.inventoryName = inventoryName;
+        this.throttledClicks = throttledClicks;
+    }
+
+    void recordOpen(long nanos) {
+        opens.increment();
+        openLatency.record(nanos);
+        emit("open", nanos);
+    }
+
+    void recordClick(long nanos) {
+        clicks.increment();
+        dispatchLatency.record(nanos);
+        emit("click", nanos);
+    }
+
+    void recordInteract(long nanos) {
+        interacts.increment();
+        dispatchLatency.record(nanos);
+        emit("interact", nanos);
+    }
+
+    void recordUpdate(long nanos) {
+        updates.increment();
+        updateLatency.record(nanos);
+        emit("update", nanos);
+    }
+
+    private void emit(String operation, long nanos) {
+        if (JFR_AVAILABLE)
+            GuiOperationEvent.emit(inventoryName, operation, nanos);
+    }
+
+    private static boolean isJfrAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    public long getOpens() {
+        return opens.sum();
+    }
+
+    public long getClicks() {
+        return clicks.sum();
+    }
+
+    public long getInteracts() {
+        return interacts.sum();
+    }
+
+    public long getUpdates() {
+        return updates.sum();
+    }
+
+    public long getThrottledClicks() {
+        return throttledClicks.sum();
+    }
+
+    public LatencyHistogram getOpenLatency() {
+        return openLatency;
+    }
+
+    // Time spent in the InventoryListener for clicks and interacts
+    public LatencyHistogram getDispatchLatency() {
+        return dispatchLatency;
+    }
+
+    public LatencyHistogram getUpdateLatency() {
+        return updateLatency;
+    }
+
+    public void reset() {
+        opens.reset();
+        clicks.reset();
+        interacts.reset();
+        updates.reset();
+        throttledClicks.reset();
+        openLatency.reset();
+        dispatchLatency.reset();
+        updateLatency.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "GuiMetrics{" + "inventory=" + inventoryName + ",opens=" + getOpens()
+                + ",clicks=" + getClicks() + ",interacts=" + getInteracts() + ",updates=" + getUpdates()
+                + ",throttledClicks=" + getThrottledClicks()
+                + ",openLatency=" + openLatency + ",dispatchLatency=" + dispatchLatency
+                + ",updateLatency=" + updateLatency + '}';
+    }
+}
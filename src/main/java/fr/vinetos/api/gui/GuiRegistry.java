@@ -0,0 +1,137 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Hash based so that registering and removing a GUI never copies anything
+final class GuiRegistry {
+
+    private final Set<Registration> registrations = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Set<Registration>> registrationsByOwner = new ConcurrentHashMap<>();
+    private final ReferenceQueue<AbstractInventory> collected = new ReferenceQueue<>();
+
+    Registration register(AbstractInventory inventory, boolean weak, UUID ownerId) {
+        purge();
+
+        final Registration registration = new Registration(inventory, weak, ownerId, collected);
+        registrations.add(registration);
+        if (ownerId != null)
+            registrationsByOwner.computeIfAbsent(ownerId, key -> ConcurrentHashMap.newKeySet()).add(registration);
+        return registration;
+    }
+
+    void unregister(Registration registration) {
+        if (registration == null)
+            return;
+
+        registrations.remove(registration);
+        if (registration.ownerId != null)
+            registrationsByOwner.computeIfPresent(registration.ownerId, (key, owned) -> {
+                owned.remove(registration);
+                return owned.isEmpty() ? null : owned;
+            });
+    }
+
+    List<AbstractInventory> removeOwnedBy(UUID ownerId) {
+        final Set<Registration> owned = registrationsByOwner.remove(ownerId);
+        final List<AbstractInventory> inventories = new ArrayList<>();
+        if (owned == null)
+            return inventories;
+
+        for (Registration registration : owned) {
+            registrations.remove(registration);
+            final AbstractInventory inventory = registration.get();
+            if (inventory != null)
+                inventories.add(inventory);
+        }
+        return inventories;
+    }
+
+    List<AbstractInventory> snapshot() {
+        purge();
+
+        final List<AbstractInventory> inventories = new ArrayList<>(registrations.size());
+        for (Registration registration : registrations) {
+            final AbstractInventory inventory = registration.get();
+            if (inventory != null)
+                inventories.add(inventory);
+        }
+        return inventories;
+    }
+
+    int size() {
+        purge();
+        return registrations.size();
+    }
+
+    // Forget the weakly referenced GUIs that were garbage collected
+    private void purge() {
+        Registration registration;
+        while ((registration = (Registration) collected.poll()) != null)
+            unregister(registration);
+    }
+
+    static final class Registration extends WeakReference<AbstractInventory> {
+
+        // Pins the GUI unless it is weakly referenced
+        private final AbstractInventory inventory;
+        private final UUID ownerId;
+
+        private Registration(AbstractInventory inventory, boolean weak, UUID ownerId, ReferenceQueue<AbstractInventory> queue) {
+            super(inventory, queue);
+            this.inventory = weak ? null : inventory;
+            this.ownerId = ownerId;
+        }
+
+        boolean isWeak() {
+            return inventory == null;
+        }
+
+        UUID getOwnerId() {
+            return ownerId;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+final class GuiScheduler implements Runnable {
+
+    // Ticks between two sweeps of the idle pooled inventories
+    private static final int POOL_SWEEP_PERIOD = 20;
+
+    private final Set<AbstractInventory> viewedInventories = new LinkedHashSet<>();
+    private final Set<AbstractInventory> pendingFlushes = new LinkedHashSet<>();
+    // Filled from any thread
+    private final Queue<AbstractInventory> pendingMutations = new ConcurrentLinkedQueue<>();
+    // Slots waiting for a refresh, kept across ticks when the budget is exhausted
+    private final Queue<UpdatableItemStackSlot> refreshQueue = new ArrayDeque<>();
+    // Broadcast viewers moved to their own copy of the shared inventory
+    private final Queue<GuiSession> pendingSwitches = new ArrayDeque<>();
+    private long refreshBudget = TimeUnit.MILLISECONDS.toNanos(2);
+    private long tick;
+
+    @Override
+    public void run() {
+        tick++;
+
+        // Apply the changes submitted since the last tick
+        AbstractInventory mutated;
+        while ((mutated = pendingMutations.poll()) != null)
+            mutated.applyMutations();
+
+        // Collect the slots to refresh in viewed inventories
+        for (AbstractInventory inventory : viewedInventories)
+            inventory.collectDueSlots(tick, refreshQueue);
+
+        final long deadline = System.nanoTime() + refreshBudget;
+        UpdatableItemStackSlot slot;
+        while ((slot = refreshQueue.poll()) != null) {
+            slot.queued = false;
+
+            final AbstractInventory owner = slot.getOwner();
+            if (owner == null || !owner.hasViewers())
+                continue;
+
+            slot.update();
+            slot.nextRefresh = slot.scheduleAfter(tick);
+            pendingFlushes.add(owner);
+
+            if (System.nanoTime() >= deadline)
+                break;
+        }
+
+        flushPending();
+
+        GuiSession session;
+        while ((session = pendingSwitches.poll()) != null)
+            session.getOwner().switchView(session);
+
+        if (tick % POOL_SWEEP_PERIOD == 0)
+            BukkitGUIAPI.INVENTORY_POOL.sweep(System.nanoTime());
+    }
+
+    long getTick() {
+        return tick;
+    }
+
+    void setRefreshBudget(long refreshBudget) {
+        this.refreshBudget = refreshBudget;
+    }
+
+    void watch(AbstractInventory inventory) {
+        viewedInventories.add(inventory);
+    }
+
+    void unwatch(AbstractInventory inventory) {
+        viewedInventories.remove(inventory);
+    }
+
+    void requestFlush(AbstractInventory inventory) {
+        pendingFlushes.add(inventory);
+    }
+
+    void requestViewSwitch(GuiSession session) {
+        pendingSwitches.add(session);
+    }
+
+    void requestMutations(AbstractInventory inventory) {
+        pendingMutations.add(inventory);
+    }
+
+    private void flushPending() {
+        if (pendingFlushes.isEmpty())
+            return;
+
+        // A flush may request another one
+        final List<AbstractInventory> inventories = new ArrayList<>(pendingFlushes);
+        pendingFlushes.clear();
+        inventories.forEach(AbstractInventory::flush);
+    }
+}
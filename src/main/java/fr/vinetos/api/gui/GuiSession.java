@@ -0,0 +1,238 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import org.apache.commons.lang.Validate;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class GuiSession {
+
+    private final AbstractInventory owner;
+    private final Player player;
+    private final UUID playerId;
+    private Inventory inventory;
+    // The inventory the player is looking at, behind inventory until a copy is shown
+    private Inventory view;
+    private boolean copied;
+    // Only the slots that differ from the layout, created on first use
+    private Map<Integer, InventoryItemSlot> items;
+    private int page;
+    // Replaces the source of a PaginatedInventory for this player
+    private ItemSource source;
+    // Last accepted click on each slot, when the GUI has a click interval
+    private long[] clickTimes;
+
+    GuiSession(AbstractInventory owner, Player player, Inventory inventory) {
+        this.owner = owner;
+        this.player = player;
+        this.playerId = player.getUniqueId();
+        this.inventory = inventory;
+    }
+
+    public AbstractInventory getOwner() {
+        return owner;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    // Null once the session is closed
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    public boolean isClosed() {
+        return inventory == null;
+    }
+
+    // Its inventory may go back to the pool, nothing is written into it anymore
+    Inventory close() {
+        final Inventory closed = inventory;
+        inventory = null;
+        view = null;
+        return closed;
+    }
+
+    Inventory getView() {
+        return view;
+    }
+
+    void setView(Inventory view) {
+        this.view = view;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    void setPage(int page) {
+        this.page = page;
+    }
+
+    ItemSource getSource() {
+        return source;
+    }
+
+    void setSource(ItemSource source) {
+        this.source = source;
+    }
+
+    public InventoryItemSlot getItem(int slot) {
+        final InventoryItemSlot item = items == null ? null : items.get(slot);
+        return item != null ? item : owner.getItem(slot);
+    }
+
+    public boolean isPersonalized(int slot) {
+        return items != null && items.containsKey(slot);
+    }
+
+    public void setItem(InventoryItemSlot item) {
+        Validate.isTrue(owner.getMode() != GuiMode.SHARED, "Only personal and broadcast inventories can have per-player items");
+        Validate.notNull(item);
+        Validate.isTrue(item.getSlot() >= 0 && item.getSlot() < owner.getSlots());
+
+        if (inventory == null)
+            return;
+        if (items == null)
+            items = new HashMap<>(4);
+        if (owner.getMode() == GuiMode.BROADCAST && !copied)
+            copyInventory();
+        items.put(item.getSlot(), item);
+
+        inventory.setItem(item.getSlot(), item.getItemStack());
+    }
+
+    public void addItem(int slot, ItemStack stack) {
+        Validate.notNull(stack);
+
+        setItem(new ItemStackSlot(stack, slot));
+    }
+
+    public void addItem(int slot, ItemTemplate template) {
+        Validate.notNull(template);
+
+        setItem(new ItemStackSlot(template, slot));
+    }
+
+    // Go back to the item of the layout
+    public InventoryItemSlot removeItem(int slot) {
+        if (items == null || inventory == null)
+            return null;
+
+        final InventoryItemSlot removed = items.remove(slot);
+        if (removed != null)
+            refresh(slot);
+        return removed;
+    }
+
+    // Leave the shared inventory of a broadcast GUI for a copy of it
+    void copyInventory() {
+        if (inventory == null)
+            return;
+
+        final Inventory shared = inventory;
+        inventory = owner.createInventory(this);
+        copied = true;
+        inventory.setContents(shared.getContents());
+        renderPlayerSlots();
+
+        // Already viewing the shared inventory, never reopened from inside an event
+        if (view == shared)
+            owner.requestViewSwitch(this);
+    }
+
+    boolean tryClick(int slot, long now, long interval) {
+        if (clickTimes == null) {
+            clickTimes = new long[owner.getSlots()];
+            Arrays.fill(clickTimes, now - interval);
+        }
+
+        if (now - clickTimes[slot] < interval)
+            return false;
+        clickTimes[slot] = now;
+        return true;
+    }
+
+    void render() {
+        if (inventory == null)
+            return;
+
+        inventory.setContents(owner.getLayout().getContents());
+        renderPlayerSlots();
+
+        if (items != null)
+            items.forEach((slot, item) -> inventory.setItem(slot, item.getItemStack()));
+    }
+
+    // The layout holds no item for them
+    private void renderPlayerSlots() {
+        final BitSet playerSlots = owner.getPlayerSlots();
+        for (int slot = playerSlots.nextSetBit(0); slot >= 0; slot = playerSlots.nextSetBit(slot + 1))
+            refresh(slot);
+    }
+
+    void refresh(int slot) {
+        if (inventory == null || isPersonalized(slot))
+            return;
+
+        final InventoryItemSlot item = owner.getItem(slot);
+        if (item instanceof PlayerItemStackSlot)
+            inventory.setItem(slot, ((PlayerItemStackSlot) item).getItemStack(player));
+        else
+            inventory.setItem(slot, item == null ? null : item.getItemStack());
+    }
+
+    @Override
+    public String toString() {
+        return "GuiSession{" + "owner=" + owner.getName() + ",playerId=" + playerId
+                + ",items=" + items + '}';
+    }
+}
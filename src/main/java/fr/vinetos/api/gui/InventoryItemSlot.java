@@ -45,4 +45,8 @@ public interface InventoryItemSlot {
 
     int getSlot();
 
+    default ItemTemplate getTemplate() {
+        return null;
+    }
+
 }
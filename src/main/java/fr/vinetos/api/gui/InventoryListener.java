@@ -43,61 +43,120 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.InventoryHolder;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
 
 public class InventoryListener implements Listener {
 
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
     public void onInteractWithItem(PlayerInteractEvent event) {
-        // Interact with anything
-        if (event.getPlayer().getInventory().getItemInMainHand() == null
-                || event.getPlayer().getInventory().getItemInMainHand().getType() == Material.AIR)
+        // Interact with anything that can't be an opener
+        final OpenerKey openerKey = OpenerKey.of(event.getPlayer().getInventory().getItemInMainHand());
+        if (openerKey == null)
             return;
 
-        // No GUI register
-        if (AbstractInventory.getAbstractInventories().isEmpty())
+        // No GUI opened by this item
+        final List<WeakReference<AbstractInventory>> inventories = AbstractInventory.getInventoriesByOpener(openerKey);
+        if (inventories == null)
             return;
 
-        // React and call abstract methods
-        AbstractInventory.getAbstractInventories().stream()
-                // Filter inventories to find which use the item
-                .filter(inventory -> inventory.isValidOpener(event.getPlayer().getInventory().getItemInMainHand()))
-                // Call abstract methods
-                .forEach(inventory -> inventory.onItemInteract(event.getPlayer(), event));
+        // Call abstract methods
+        final boolean measured = BukkitGUIAPI.METRICS_ENABLED;
+        for (WeakReference<AbstractInventory> reference : inventories) {
+            final AbstractInventory inventory = reference.get();
+            if (inventory == null)
+                continue;
+
+            final long start = measured ? System.nanoTime() : 0L;
+            inventory.onItemInteract(event.getPlayer(), event);
+            if (measured)
+                inventory.getMetrics().recordInteract(System.nanoTime() - start);
+        }
 
     }
 
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
     public void onClickOnItem(InventoryClickEvent event) {
+        final boolean measured = BukkitGUIAPI.METRICS_ENABLED;
+        final long start = measured ? System.nanoTime() : 0L;
+
+        // Not a GUI inventory
+        final InventoryHolder holder = event.getInventory().getHolder();
+        if (!(holder instanceof GuiHolder))
+            return;
+
+        // Left open after its GUI released it, nothing can be taken from or put into it
+        final GuiHolder guiHolder = (GuiHolder) holder;
+        final AbstractInventory inventory = guiHolder.getOwner();
+        if (inventory == null) {
+            event.setCancelled(true);
+            return;
+        }
+
         // Click on anything
         if (event.getCurrentItem() == null || event.getCurrentItem().getType() == Material.AIR || event.getWhoClicked() == null)
             return;
 
-        // No GUI register
-        if (AbstractInventory.getAbstractInventories().isEmpty())
+        // Click outside of the GUI, in the inventory of the player
+        final int slot = event.getRawSlot();
+        if (slot < 0 || slot >= event.getInventory().getSize())
             return;
 
-        final ItemStackSlot itemStackSlot = new ItemStackSlot(event.getCurrentItem(), event.getSlot());
-
-        // React and call abstract methods
-        AbstractInventory.getAbstractInventories().stream()
-                // Filter inventories to find which use the item
-                .filter(inventory -> inventory.getDisplayName().equals(event.getInventory().getName()) || inventory.getName().equals(event.getInventory().getName()))
-                .filter(inventory -> inventory.getItems().contains(itemStackSlot))
-                // Call abstract methods
-                .forEach(inventory ->
-                        inventory.onItemClick(
-                                (Player) event.getWhoClicked(),
-                                event.getCurrentItem(),
-                                ClickType.get(
-                                        event.isLeftClick(),
-                                        event.isShiftClick(),
-                                        event.isRightClick()
-                                ),
-                                event
-
-                ));
+        // Too many clicks from this player, dropped before any item lookup
+        final Player player = (Player) event.getWhoClicked();
+        final long now = System.nanoTime();
+        if (!BukkitGUIAPI.CLICK_LIMITER.tryAcquire(player.getEntityId(), now)) {
+            event.setCancelled(true);
+            return;
+        }
+
+        // Click on an empty slot
+        if (guiHolder.getItem(slot) == null)
+            return;
+
+        // Same slot clicked again too soon
+        if (inventory.throttleClick(player, slot, now)) {
+            event.setCancelled(true);
+            return;
+        }
+
+        // Call handlers or abstract methods
+        inventory.dispatchClick(
+                slot,
+                player,
+                event.getCurrentItem(),
+                ClickType.get(
+                        event.isLeftClick(),
+                        event.isShiftClick(),
+                        event.isRightClick()
+                ),
+                event
+        );
+
+        if (measured)
+            inventory.getMetrics().recordClick(System.nanoTime() - start);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onCloseInventory(InventoryCloseEvent event) {
+        final InventoryHolder holder = event.getInventory().getHolder();
+        if (!(holder instanceof GuiHolder) || ((GuiHolder) holder).getOwner() == null)
+            return;
+
+        // Release the session of the player
+        ((GuiHolder) holder).getOwner().closeSession(event.getPlayer().getUniqueId(), event.getInventory());
+    }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        // Drop the temporary GUIs and the click rate of the player
+        AbstractInventory.removeOwnedBy(event.getPlayer().getUniqueId());
+        BukkitGUIAPI.CLICK_LIMITER.remove(event.getPlayer().getEntityId());
     }
 
 }
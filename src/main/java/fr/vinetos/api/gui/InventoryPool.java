@@ -0,0 +1,144 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import org.bukkit.Bukkit;
+import org.bukkit.inventory.Inventory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Closed inventories waiting to be reused by a GUI of the same size and title, only used from the main thread
+final class InventoryPool {
+
+    private final Map<Integer, Map<String, Deque<Inventory>>> idleInventories = new HashMap<>();
+    private long idleTimeout = TimeUnit.SECONDS.toNanos(30);
+    // Idle inventories kept for each size and title, 0 to disable the pool
+    private int capacity = 16;
+    private long created;
+    private long reused;
+
+    Inventory acquire(int size, String title) {
+        final Map<String, Deque<Inventory>> bySize = idleInventories.get(size);
+        final Deque<Inventory> idle = bySize == null ? null : bySize.get(title);
+
+        // Most recently released first
+        Inventory inventory = idle == null ? null : idle.pollLast();
+        if (inventory != null) {
+            reused++;
+            return inventory;
+        }
+
+        final GuiHolder holder = new GuiHolder();
+        inventory = Bukkit.createInventory(holder, size, title);
+        holder.setInventory(inventory);
+        created++;
+        return inventory;
+    }
+
+    void release(Inventory inventory) {
+        final GuiHolder holder = (GuiHolder) inventory.getHolder();
+        holder.bind(null, null);
+
+        if (capacity == 0)
+            return;
+
+        final Deque<Inventory> idle = idleInventories
+                .computeIfAbsent(inventory.getSize(), key -> new HashMap<>())
+                .computeIfAbsent(inventory.getTitle(), key -> new ArrayDeque<>());
+        if (idle.size() >= capacity)
+            return;
+
+        // The items of the last viewer must not stay reachable while idle
+        inventory.clear();
+        holder.releasedAt = System.nanoTime();
+        idle.addLast(inventory);
+    }
+
+    // Forget the inventories idle for too long, the oldest are at the head
+    void sweep(long now) {
+        for (Iterator<Map<String, Deque<Inventory>>> bySize = idleInventories.values().iterator(); bySize.hasNext(); ) {
+            final Map<String, Deque<Inventory>> byTitle = bySize.next();
+            for (Iterator<Deque<Inventory>> titles = byTitle.values().iterator(); titles.hasNext(); ) {
+                final Deque<Inventory> idle = titles.next();
+                while (!idle.isEmpty() && now - ((GuiHolder) idle.peekFirst().getHolder()).releasedAt >= idleTimeout)
+                    idle.pollFirst();
+                if (idle.isEmpty())
+                    titles.remove();
+            }
+            if (byTitle.isEmpty())
+                bySize.remove();
+        }
+    }
+
+    void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    void setCapacity(int capacity) {
+        this.capacity = capacity;
+        if (capacity == 0)
+            idleInventories.clear();
+    }
+
+    int getIdleCount() {
+        int count = 0;
+        for (Map<String, Deque<Inventory>> byTitle : idleInventories.values())
+            for (Deque<Inventory> idle : byTitle.values())
+                count += idle.size();
+        return count;
+    }
+
+    long getCreated() {
+        return created;
+    }
+
+    long getReused() {
+        return reused;
+    }
+
+    @Override
+    public String toString() {
+        return "InventoryPool{" + "idle=" + getIdleCount() + ",created=" + created + ",reused=" + reused
+                + ",capacity=" + capacity + ",idleTimeout=" + idleTimeout + '}';
+    }
+}
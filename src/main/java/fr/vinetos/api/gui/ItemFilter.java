@@ -0,0 +1,94 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import org.apache.commons.lang.Validate;
+
+import java.util.BitSet;
+
+// Selects entries of a SearchableItemSource, the returned set may be modified by the caller
+public interface ItemFilter {
+
+    BitSet match(SearchableItemSource source);
+
+    default ItemFilter and(ItemFilter other) {
+        Validate.notNull(other);
+        return source -> {
+            final BitSet matched = match(source);
+            matched.and(other.match(source));
+            return matched;
+        };
+    }
+
+    default ItemFilter or(ItemFilter other) {
+        Validate.notNull(other);
+        return source -> {
+            final BitSet matched = match(source);
+            matched.or(other.match(source));
+            return matched;
+        };
+    }
+
+    default ItemFilter negate() {
+        return source -> {
+            final BitSet matched = match(source);
+            matched.flip(0, source.size());
+            return matched;
+        };
+    }
+
+    static ItemFilter all() {
+        return source -> {
+            final BitSet matched = new BitSet(source.size());
+            matched.set(0, source.size());
+            return matched;
+        };
+    }
+
+    // Every word of the query must start a word of the name or the lore
+    static ItemFilter text(String query) {
+        Validate.notNull(query);
+        return source -> source.matchText(query);
+    }
+
+    static ItemFilter category(String category) {
+        Validate.notNull(category);
+        return source -> source.matchCategory(category);
+    }
+
+}
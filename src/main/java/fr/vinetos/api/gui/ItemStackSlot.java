@@ -42,10 +42,18 @@ import org.bukkit.inventory.ItemStack;
 public class ItemStackSlot implements InventoryItemSlot {
 
     private final ItemStack itemStack;
+    private final ItemTemplate template;
     private final int slot;
 
     public ItemStackSlot(ItemStack itemStack, int slot) {
         this.itemStack = itemStack;
+        this.template = null;
+        this.slot = slot;
+    }
+
+    public ItemStackSlot(ItemTemplate template, int slot) {
+        this.itemStack = template.getItemStack();
+        this.template = template;
         this.slot = slot;
     }
 
@@ -54,6 +62,11 @@ public class ItemStackSlot implements InventoryItemSlot {
         return itemStack;
     }
 
+    @Override
+    public ItemTemplate getTemplate() {
+        return template;
+    }
+
     @Override
     public int getSlot() {
         return slot;
@@ -67,12 +80,13 @@ public class ItemStackSlot implements InventoryItemSlot {
         ItemStackSlot that = (ItemStackSlot) o;
 
         if (slot != that.slot) return false;
+        if (template != null && that.template != null) return template == that.template;
         return itemStack != null ? itemStack.equals(that.itemStack) : that.itemStack == null;
     }
 
     @Override
     public int hashCode() {
-        int result = itemStack != null ? itemStack.hashCode() : 0;
+        int result = template != null ? template.hashCode() : itemStack != null ? itemStack.hashCode() : 0;
         result = 31 * result + slot;
         return result;
     }
@@ -0,0 +1,161 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import org.apache.commons.lang.Validate;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class ItemTemplate {
+
+    private static final AtomicInteger nextId = new AtomicInteger();
+    // Weak values, a template is forgotten once no GUI uses it anymore
+    private static final Map<ItemStack, TemplateReference> templates = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<ItemTemplate> collected = new ReferenceQueue<>();
+
+    private final int id;
+    private final ItemStack itemStack;
+    private final String displayName;
+    private final List<String> lore;
+    private final int hash;
+
+    private ItemTemplate(ItemStack itemStack) {
+        this.id = nextId.incrementAndGet();
+        this.itemStack = itemStack.clone();
+
+        // The meta is cloned a single time
+        final ItemMeta meta = this.itemStack.hasItemMeta() ? this.itemStack.getItemMeta() : null;
+        this.displayName = meta != null && meta.hasDisplayName() ? meta.getDisplayName() : null;
+        this.lore = meta != null && meta.hasLore() ? Collections.unmodifiableList(meta.getLore()) : Collections.emptyList();
+        this.hash = this.itemStack.hashCode();
+    }
+
+    // Same template for similar items, shared by every GUI
+    public static ItemTemplate of(ItemStack itemStack) {
+        Validate.notNull(itemStack);
+        purge();
+
+        final TemplateReference reference = templates.get(itemStack);
+        final ItemTemplate template = reference == null ? null : reference.get();
+        if (template != null)
+            return template;
+
+        // Keyed by a private copy, so changes to the shared stack cannot break the map
+        final ItemTemplate created = new ItemTemplate(itemStack);
+        final TemplateReference cached = templates.compute(created.itemStack.clone(), (key, previous) ->
+                previous != null && previous.get() != null ? previous : new TemplateReference(key, created, collected));
+        final ItemTemplate shared = cached.get();
+        return shared != null ? shared : created;
+    }
+
+    // Not cached, for items only used once
+    public static ItemTemplate create(ItemStack itemStack) {
+        Validate.notNull(itemStack);
+
+        return new ItemTemplate(itemStack);
+    }
+
+    public static void clearCache() {
+        templates.clear();
+    }
+
+    private static void purge() {
+        TemplateReference reference;
+        while ((reference = (TemplateReference) collected.poll()) != null)
+            templates.remove(reference.key, reference);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    // Shared instance, never modify it
+    public ItemStack getItemStack() {
+        return itemStack;
+    }
+
+    public ItemStack toItemStack() {
+        return itemStack.clone();
+    }
+
+    public Material getType() {
+        return itemStack.getType();
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public List<String> getLore() {
+        return lore;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "ItemTemplate{" + "id=" + id + ",itemStack=" + itemStack + '}';
+    }
+
+    private static final class TemplateReference extends WeakReference<ItemTemplate> {
+
+        private final ItemStack key;
+
+        TemplateReference(ItemStack key, ItemTemplate template, ReferenceQueue<ItemTemplate> queue) {
+            super(template, queue);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import org.bukkit.Bukkit;
+
+import java.lang.ref.WeakReference;
+import java.util.function.Consumer;
+
+// GUI whose items come from a YamlLayout, updated when it is reloaded
+public class LayoutInventory extends AbstractInventory {
+
+    private final YamlLayout layout;
+    private final Consumer<YamlLayout> reloadListener = new ReloadListener(this);
+
+    public LayoutInventory(String name, YamlLayout layout) {
+        this(name, layout, false);
+    }
+
+    public LayoutInventory(String name, YamlLayout layout, boolean personal) {
+        super(layout.getLayout().getSlots(), name, layout.getTitle(), personal);
+
+        this.layout = layout;
+        apply(layout);
+        layout.addReloadListener(reloadListener);
+    }
+
+    public YamlLayout getYamlLayout() {
+        return layout;
+    }
+
+    private void apply(YamlLayout layout) {
+        final InventoryLayout compiled = layout.getLayout();
+        if (compiled.getSlots() != getSlots()) {
+            Bukkit.getLogger().warning("Cannot apply " + layout + " to " + getName() + ", the number of rows changed");
+            return;
+        }
+
+        if (layout.getTitle() != null)
+            setDisplayName(layout.getTitle());
+
+        // Compiled slots are immutable and shared, nothing is built here
+        edit(inventory -> {
+            for (int slot = 0; slot < getSlots(); slot++) {
+                if (compiled.getItem(slot) != null)
+                    inventory.setItem(compiled.getItem(slot));
+                else
+                    inventory.removeItem(slot);
+            }
+        });
+    }
+
+    @Override
+    public void remove() {
+        layout.removeReloadListener(reloadListener);
+        super.remove();
+    }
+
+    // Does not keep a weakly referenced GUI alive, removes itself once the GUI is collected
+    private static final class ReloadListener implements Consumer<YamlLayout> {
+
+        private final WeakReference<LayoutInventory> inventory;
+
+        ReloadListener(LayoutInventory inventory) {
+            this.inventory = new WeakReference<>(inventory);
+        }
+
+        @Override
+        public void accept(YamlLayout layout) {
+            final LayoutInventory layoutInventory = inventory.get();
+            if (layoutInventory != null)
+                layoutInventory.apply(layout);
+            else
+                layout.removeReloadListener(this);
+        }
+    }
+
+}
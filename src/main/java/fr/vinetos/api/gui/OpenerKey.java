@@ -0,0 +1,108 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+final class OpenerKey {
+
+    private final Material type;
+    private final short data;
+    private final int amount;
+    private final String name;
+    private final int hash;
+
+    private OpenerKey(Material type, short data, int amount, String name) {
+        this.type = type;
+        this.data = data;
+        this.amount = amount;
+        this.name = name;
+
+        int result = type.hashCode();
+        result = 31 * result + data;
+        result = 31 * result + amount;
+        result = 31 * result + name.hashCode();
+        this.hash = result;
+    }
+
+    // Only named items can open a GUI, reads the item meta at most once
+    static OpenerKey of(ItemStack itemStack) {
+        if (itemStack == null || itemStack.getType() == Material.AIR || !itemStack.hasItemMeta())
+            return null;
+
+        final ItemMeta meta = itemStack.getItemMeta();
+        if (!meta.hasDisplayName())
+            return null;
+
+        return new OpenerKey(itemStack.getType(), itemStack.getDurability(), itemStack.getAmount(),
+                meta.getDisplayName().toLowerCase());
+    }
+
+    static OpenerKey of(ItemTemplate template) {
+        if (template == null || template.getType() == Material.AIR || template.getDisplayName() == null)
+            return null;
+
+        final ItemStack itemStack = template.getItemStack();
+        return new OpenerKey(itemStack.getType(), itemStack.getDurability(), itemStack.getAmount(),
+                template.getDisplayName().toLowerCase());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        OpenerKey that = (OpenerKey) o;
+
+        return hash == that.hash && type == that.type && data == that.data
+                && amount == that.amount && name.equals(that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "OpenerKey{" + "type=" + type + ",data=" + data
+                + ",amount=" + amount + ",name=" + name + '}';
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import org.apache.commons.lang.Validate;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Arrays;
+
+public abstract class PaginatedInventory extends AbstractInventory {
+
+    private final int[] contentSlots;
+    // Position of each slot in contentSlots, -1 for the reserved ones
+    private final int[] contentIndexes;
+    private final int previousSlot;
+    private final int nextSlot;
+    private ItemSource source;
+    private ItemStack previousItem;
+    private ItemStack nextItem;
+
+    public PaginatedInventory(int slots, String name, String displayName, ItemSource source) {
+        super(slots, name, displayName, true);
+        Validate.isTrue(slots >= 18, "A paginated inventory needs at least 2 rows");
+        Validate.notNull(source);
+
+        // Last row is reserved for the navigation
+        this.contentSlots = new int[slots - 9];
+        this.contentIndexes = new int[slots];
+        Arrays.fill(contentIndexes, -1);
+        for (int i = 0; i < contentSlots.length; i++) {
+            contentSlots[i] = i;
+            contentIndexes[i] = i;
+        }
+
+        this.previousSlot = slots - 9;
+        this.nextSlot = slots - 1;
+        this.source = source;
+        this.previousItem = new ItemStack(Material.ARROW);
+        this.nextItem = new ItemStack(Material.ARROW);
+    }
+
+    public ItemSource getSource() {
+        return source;
+    }
+
+    public void setSource(ItemSource source) {
+        Validate.notNull(source);
+
+        this.source = source;
+        refreshPages();
+    }
+
+    public int getPageSize() {
+        return contentSlots.length;
+    }
+
+    public int getPageCount() {
+        return getPageCount(source);
+    }
+
+    public int getPageCount(Player player) {
+        final GuiSession session = getSession(player);
+        return getPageCount(session == null ? source : getSource(session));
+    }
+
+    private int getPageCount(ItemSource source) {
+        return Math.max(1, (source.size() + contentSlots.length - 1) / contentSlots.length);
+    }
+
+    public ItemSource getSource(Player player) {
+        final GuiSession session = getSession(player);
+        return session == null ? source : getSource(session);
+    }
+
+    // Only for this player until the inventory is closed, null to go back to the source of the inventory
+    public void setSource(Player player, ItemSource source) {
+        final GuiSession session = getSession(player);
+        Validate.notNull(session, "The player is not viewing this inventory");
+
+        session.setSource(source);
+        renderPage(session, 0);
+    }
+
+    // Show the player the entries of the searchable source kept by the filter
+    public FilteredItemSource setFilter(Player player, ItemFilter filter) {
+        Validate.isTrue(source instanceof SearchableItemSource, "The source of this inventory is not searchable");
+
+        final FilteredItemSource filtered = ((SearchableItemSource) source).filter(filter);
+        setSource(player, filtered);
+        return filtered;
+    }
+
+    private ItemSource getSource(GuiSession session) {
+        return session.getSource() != null ? session.getSource() : source;
+    }
+
+    public void setPreviousItem(ItemStack previousItem) {
+        Validate.notNull(previousItem);
+
+        this.previousItem = previousItem;
+        refreshPages();
+    }
+
+    public void setNextItem(ItemStack nextItem) {
+        Validate.notNull(nextItem);
+
+        this.nextItem = nextItem;
+        refreshPages();
+    }
+
+    public boolean isReserved(int slot) {
+        return slot == previousSlot || slot == nextSlot;
+    }
+
+    @Override
+    public void setItem(InventoryItemSlot item) {
+        Validate.notNull(item);
+        Validate.isTrue(item.getSlot() >= 0 && item.getSlot() < getSlots());
+        Validate.isTrue(contentIndexes[item.getSlot()] < 0 && !isReserved(item.getSlot()), "This slot is used by the pages");
+
+        super.setItem(item);
+    }
+
+    public void setPage(Player player, int page) {
+        final GuiSession session = getSession(player);
+        Validate.notNull(session, "The player is not viewing this inventory");
+
+        renderPage(session, page);
+    }
+
+    // Source changed, render the current page of each viewer again
+    public void refreshPages() {
+        for (GuiSession session : getSessions())
+            renderPage(session, session.getPage());
+    }
+
+    @Override
+    protected void onSessionOpen(GuiSession session) {
+        renderPage(session, 0);
+    }
+
+    private void renderPage(GuiSession session, int page) {
+        final ItemSource source = getSource(session);
+        final int pageCount = getPageCount(source);
+        page = Math.max(0, Math.min(page, pageCount - 1));
+        session.setPage(page);
+
+        // Only the items of this page are created
+        final int first = page * contentSlots.length;
+        final int size = source.size();
+        for (int i = 0; i < contentSlots.length; i++) {
+            if (first + i < size)
+                session.setItem(new ItemStackSlot(source.get(first + i), contentSlots[i]));
+            else
+                session.removeItem(contentSlots[i]);
+        }
+
+        if (page > 0)
+            session.setItem(new ItemStackSlot(previousItem, previousSlot));
+        else
+            session.removeItem(previousSlot);
+
+        if (page < pageCount - 1)
+            session.setItem(new ItemStackSlot(nextItem, nextSlot));
+        else
+            session.removeItem(nextSlot);
+    }
+
+    @Override
+    public final void onItemClick(Player player, ItemStack itemStack, ClickType clickType, InventoryClickEvent event) {
+        event.setCancelled(true);
+
+        final GuiSession session = getSession(player);
+        if (session == null)
+            return;
+
+        final int slot = event.getRawSlot();
+        if (slot == previousSlot)
+            renderPage(session, session.getPage() - 1);
+        else if (slot == nextSlot)
+            renderPage(session, session.getPage() + 1);
+        else if (contentIndexes[slot] >= 0)
+            onPageItemClick(player, session.getPage() * contentSlots.length + contentIndexes[slot], itemStack, clickType, event);
+        else
+            onOtherItemClick(player, itemStack, clickType, event);
+    }
+
+    // index is the position of the item in the source of the player, see FilteredItemSource#getSourceIndex
+    public abstract void onPageItemClick(Player player, int index, ItemStack itemStack, ClickType clickType, InventoryClickEvent event);
+
+    public void onOtherItemClick(Player player, ItemStack itemStack, ClickType clickType, InventoryClickEvent event) {
+    }
+
+}
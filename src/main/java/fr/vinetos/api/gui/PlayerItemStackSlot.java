@@ -0,0 +1,141 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import org.apache.commons.lang.Validate;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+// Item rendered for each viewer, only rendered again once its version changed
+public class PlayerItemStackSlot extends UpdatableItemStackSlot {
+
+    private final Function<Player, ItemStack> renderer;
+    // Players are replaced when they reconnect, the renders of the gone ones are collected
+    private final Map<Player, Rendered> renders = new WeakHashMap<>();
+    private int version;
+
+    public PlayerItemStackSlot(int slot, Function<Player, ItemStack> renderer) {
+        this(slot, 0, renderer);
+    }
+
+    // The items are rendered again every refreshInterval ticks
+    public PlayerItemStackSlot(int slot, int refreshInterval, Function<Player, ItemStack> renderer) {
+        super(null, slot, refreshInterval);
+        Validate.notNull(renderer);
+
+        this.renderer = renderer;
+    }
+
+    public ItemStack getItemStack(Player player) {
+        Rendered rendered = renders.get(player);
+        if (rendered == null || rendered.version != version) {
+            rendered = new Rendered(version, renderer.apply(player));
+            renders.put(player, rendered);
+        }
+        return rendered.itemStack;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    // The state shown changed for every player
+    public void bumpVersion() {
+        update();
+        flush();
+    }
+
+    // The state shown changed for this player only
+    public void invalidate(Player player) {
+        renders.remove(player);
+        markDirty();
+        flush();
+    }
+
+    @Override
+    public void update() {
+        version++;
+        markDirty();
+    }
+
+    private void markDirty() {
+        if (getOwner() != null)
+            getOwner().markDirty(getSlot());
+    }
+
+    private void flush() {
+        if (getOwner() != null)
+            getOwner().requestFlush();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        PlayerItemStackSlot that = (PlayerItemStackSlot) o;
+
+        return getSlot() == that.getSlot() && renderer.equals(that.renderer);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * renderer.hashCode() + getSlot();
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerItemStackSlot{" + "slot=" + getSlot() + ",version=" + version
+                + ",renders=" + renders.size() + ",refreshInterval=" + getRefreshInterval() + '}';
+    }
+
+    private static final class Rendered {
+
+        private final int version;
+        private final ItemStack itemStack;
+
+        Rendered(int version, ItemStack itemStack) {
+            this.version = version;
+            this.itemStack = itemStack;
+        }
+    }
+}
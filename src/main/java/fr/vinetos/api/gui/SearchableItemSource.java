@@ -0,0 +1,205 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import org.apache.commons.lang.Validate;
+import org.bukkit.ChatColor;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Catalog indexed once by the words of its names and lores and by category
+public final class SearchableItemSource implements ItemSource {
+
+    private final List<? extends SearchEntry> entries;
+    // Sorted words and the sorted entries containing each of them
+    private final String[] words;
+    private final int[][] postings;
+    private final Map<String, BitSet> categories;
+
+    private SearchableItemSource(List<? extends SearchEntry> entries, String[] words, int[][] postings, Map<String, BitSet> categories) {
+        this.entries = entries;
+        this.words = words;
+        this.postings = postings;
+        this.categories = categories;
+    }
+
+    public static SearchableItemSource of(List<? extends SearchEntry> entries) {
+        Validate.notNull(entries);
+
+        final Map<String, Postings> index = new HashMap<>();
+        final Map<String, BitSet> categories = new HashMap<>();
+        for (int entry = 0; entry < entries.size(); entry++) {
+            final SearchEntry searchEntry = entries.get(entry);
+            indexWords(index, searchEntry.getName(), entry);
+            for (String line : searchEntry.getLore())
+                indexWords(index, line, entry);
+            for (String category : searchEntry.getCategories())
+                categories.computeIfAbsent(normalize(category), key -> new BitSet()).set(entry);
+        }
+
+        final String[] words = index.keySet().toArray(new String[0]);
+        Arrays.sort(words);
+        final int[][] postings = new int[words.length][];
+        for (int i = 0; i < words.length; i++)
+            postings[i] = index.get(words[i]).toArray();
+        return new SearchableItemSource(new ArrayList<>(entries), words, postings, categories);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public ItemStack get(int index) {
+        // Not kept, only the pages being viewed hold their items
+        return entries.get(index).createItemStack();
+    }
+
+    public SearchEntry getEntry(int index) {
+        return entries.get(index);
+    }
+
+    public FilteredItemSource filter(ItemFilter filter) {
+        Validate.notNull(filter);
+
+        return new FilteredItemSource(this, filter.match(this).stream().toArray());
+    }
+
+    BitSet matchText(String query) {
+        BitSet matched = null;
+        for (String word : split(query)) {
+            final BitSet wordMatches = matchPrefix(word);
+            if (matched == null)
+                matched = wordMatches;
+            else
+                matched.and(wordMatches);
+
+            if (matched.isEmpty())
+                return matched;
+        }
+
+        // Blank query
+        if (matched == null) {
+            matched = new BitSet(entries.size());
+            matched.set(0, entries.size());
+        }
+        return matched;
+    }
+
+    BitSet matchCategory(String category) {
+        final BitSet matched = categories.get(normalize(category));
+        return matched == null ? new BitSet() : (BitSet) matched.clone();
+    }
+
+    // Entries having a word starting with the prefix, the matching words are contiguous
+    private BitSet matchPrefix(String prefix) {
+        final BitSet matched = new BitSet(entries.size());
+        int word = Arrays.binarySearch(words, prefix);
+        if (word < 0)
+            word = -word - 1;
+
+        for (; word < words.length && words[word].startsWith(prefix); word++)
+            for (int entry : postings[word])
+                matched.set(entry);
+        return matched;
+    }
+
+    private static void indexWords(Map<String, Postings> index, String text, int entry) {
+        if (text == null)
+            return;
+
+        for (String word : split(text))
+            index.computeIfAbsent(word, key -> new Postings()).add(entry);
+    }
+
+    // Words are the runs of letters and digits
+    private static List<String> split(String text) {
+        final String normalized = normalize(text);
+        final List<String> words = new ArrayList<>(4);
+
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            final boolean inWord = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (inWord && start < 0) {
+                start = i;
+            } else if (!inWord && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    private static String normalize(String text) {
+        return ChatColor.stripColor(text).toLowerCase(Locale.ROOT);
+    }
+
+    // Entries are indexed in order, so the postings are sorted without duplicates
+    private static final class Postings {
+
+        private int[] entries = new int[2];
+        private int size;
+
+        void add(int entry) {
+            if (size > 0 && entries[size - 1] == entry)
+                return;
+
+            if (size == entries.length)
+                entries = Arrays.copyOf(entries, size << 1);
+            entries[size++] = entry;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(entries, size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SearchableItemSource{" + "entries=" + entries.size() + ",words=" + words.length
+                + ",categories=" + categories.keySet() + '}';
+    }
+}
@@ -37,16 +37,31 @@
  */
 package fr.vinetos.api.gui;
 
+import org.apache.commons.lang.Validate;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.Objects;
+
 public abstract class UpdatableItemStackSlot implements InventoryItemSlot {
 
     private final int slot;
     private ItemStack itemStack;
+    private AbstractInventory owner;
+    private int refreshInterval;
+    // Managed by the GuiScheduler
+    long nextRefresh;
+    boolean queued;
 
     public UpdatableItemStackSlot(ItemStack itemStack, int slot) {
+        this(itemStack, slot, 0);
+    }
+
+    public UpdatableItemStackSlot(ItemStack itemStack, int slot, int refreshInterval) {
+        Validate.isTrue(refreshInterval >= 0, "Refresh interval cannot be negative");
+
         this.itemStack = itemStack;
         this.slot = slot;
+        this.refreshInterval = refreshInterval;
     }
 
     @Override
@@ -55,7 +70,38 @@ public abstract class UpdatableItemStackSlot implements InventoryItemSlot {
     }
 
     public void setItemStack(ItemStack itemStack) {
+        // Setting the same instance again means it was modified in place
+        if (this.itemStack != itemStack && Objects.equals(this.itemStack, itemStack))
+            return;
+
         this.itemStack = itemStack;
+
+        if (owner != null)
+            owner.markDirty(slot);
+    }
+
+    // In ticks, 0 to only update with AbstractInventory#update()
+    public int getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(int refreshInterval) {
+        Validate.isTrue(refreshInterval >= 0, "Refresh interval cannot be negative");
+
+        this.refreshInterval = refreshInterval;
+    }
+
+    AbstractInventory getOwner() {
+        return owner;
+    }
+
+    void setOwner(AbstractInventory owner) {
+        this.owner = owner;
+    }
+
+    // Tick of the next refresh by the GuiScheduler
+    long scheduleAfter(long tick) {
+        return tick + refreshInterval;
     }
 
     @Override
@@ -86,6 +132,6 @@ public abstract class UpdatableItemStackSlot implements InventoryItemSlot {
     @Override
     public String toString() {
         return "UpdatableItemStackSlot{" + "itemStack=" + itemStack
-                + ",slot=" + slot + '}';
+                + ",slot=" + slot + ",refreshInterval=" + refreshInterval + '}';
     }
 }
@@ -0,0 +1,208 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui;
+
+import org.apache.commons.lang.Validate;
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/*
+ * A grid of up to 6 rows of 9 characters and the item of each character:
+ *
+ * title: '&aShop'
+ * rows:
+ *   - '#########'
+ *   - '#   d   #'
+ *   - '#########'
+ * items:
+ *   '#': {material: STAINED_GLASS_PANE, data: 7, name: ' '}
+ *   d: {material: DIAMOND, amount: 1, name: '&bDiamonds', lore: ['&7Click to buy']}
+ */
+public final class YamlLayout {
+
+    private final File file;
+    private final AtomicReference<Compiled> compiled;
+    private final List<Consumer<YamlLayout>> reloadListeners = new CopyOnWriteArrayList<>();
+
+    private YamlLayout(File file, Compiled compiled) {
+        this.file = file;
+        this.compiled = new AtomicReference<>(compiled);
+    }
+
+    // Compiled once at startup, on the calling thread
+    public static YamlLayout load(File file) throws IOException, InvalidConfigurationException {
+        Validate.notNull(file);
+
+        return new YamlLayout(file, compile(file));
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public String getTitle() {
+        return compiled.get().title;
+    }
+
+    public InventoryLayout getLayout() {
+        return compiled.get().layout;
+    }
+
+    // Compiled on the async executor, swapped and announced on the main thread
+    public CompletableFuture<YamlLayout> reload() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return compile(file);
+            } catch (IOException | InvalidConfigurationException e) {
+                throw new CompletionException(e);
+            }
+        }, BukkitGUIAPI.getAsyncExecutor()).thenApplyAsync(reloaded -> {
+            compiled.set(reloaded);
+            reloadListeners.forEach(listener -> listener.accept(this));
+            return this;
+        }, BukkitGUIAPI.getMainThreadExecutor());
+    }
+
+    public void addReloadListener(Consumer<YamlLayout> listener) {
+        reloadListeners.add(listener);
+    }
+
+    public void removeReloadListener(Consumer<YamlLayout> listener) {
+        reloadListeners.remove(listener);
+    }
+
+    private static Compiled compile(File file) throws IOException, InvalidConfigurationException {
+        final YamlConfiguration config = new YamlConfiguration();
+        config.load(file);
+        return compile(config);
+    }
+
+    static Compiled compile(ConfigurationSection config) throws InvalidConfigurationException {
+        final List<String> rows = config.getStringList("rows");
+        if (rows.isEmpty() || rows.size() > 6)
+            throw new InvalidConfigurationException("A layout needs between 1 and 6 rows");
+
+        // Every item is built once and shared by all the slots using it
+        final Map<Character, ItemTemplate> legend = new HashMap<>();
+        final ConfigurationSection items = config.getConfigurationSection("items");
+        if (items != null) {
+            for (String key : items.getKeys(false)) {
+                if (key.length() != 1 || !items.isConfigurationSection(key))
+                    throw new InvalidConfigurationException("Invalid item '" + key + "', use a single character");
+                legend.put(key.charAt(0), compileItem(key, items.getConfigurationSection(key)));
+            }
+        }
+
+        final InventoryItemSlot[] slots = new InventoryItemSlot[rows.size() * 9];
+        for (int row = 0; row < rows.size(); row++) {
+            final String line = rows.get(row);
+            if (line.length() > 9)
+                throw new InvalidConfigurationException("Row " + (row + 1) + " has more than 9 slots");
+
+            for (int column = 0; column < line.length(); column++) {
+                final char symbol = line.charAt(column);
+                if (symbol == ' ')
+                    continue;
+
+                final ItemTemplate template = legend.get(symbol);
+                if (template == null)
+                    throw new InvalidConfigurationException("Unknown item '" + symbol + "' in row " + (row + 1));
+                slots[row * 9 + column] = new ItemStackSlot(template, row * 9 + column);
+            }
+        }
+
+        final String title = config.getString("title");
+        return new Compiled(title == null ? null : color(title), new InventoryLayout(slots));
+    }
+
+    private static ItemTemplate compileItem(String key, ConfigurationSection section) throws InvalidConfigurationException {
+        final Material material = Material.matchMaterial(section.getString("material", ""));
+        if (material == null)
+            throw new InvalidConfigurationException("Unknown material for item '" + key + "'");
+
+        final ItemStack itemStack = new ItemStack(material, section.getInt("amount", 1), (short) section.getInt("data", 0));
+        final String name = section.getString("name");
+        final List<String> lore = section.getStringList("lore");
+        if (name != null || !lore.isEmpty()) {
+            final ItemMeta meta = itemStack.getItemMeta();
+            if (name != null)
+                meta.setDisplayName(color(name));
+            if (!lore.isEmpty())
+                meta.setLore(lore.stream().map(YamlLayout::color).collect(Collectors.toList()));
+            itemStack.setItemMeta(meta);
+        }
+        return ItemTemplate.of(itemStack);
+    }
+
+    private static String color(String text) {
+        return ChatColor.translateAlternateColorCodes('&', text);
+    }
+
+    @Override
+    public String toString() {
+        return "YamlLayout{" + "file=" + file + ",title=" + getTitle() + '}';
+    }
+
+    private static final class Compiled {
+
+        private final String title;
+        private final InventoryLayout layout;
+
+        Compiled(String title, InventoryLayout layout) {
+            this.title = title;
+            this.layout = layout;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui.benchmark;
+
+import fr.vinetos.api.gui.fake.FakeServer;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InventoryBenchmark {
+
+    private FakeServer server;
+    private Player player;
+    private BenchmarkInventory inventory;
+    private BenchmarkInventory updatableInventory;
+    private int slot;
+
+    @Setup
+    public void setUp() {
+        server = FakeServer.install();
+        player = server.createPlayer("InventoryBenchmark");
+
+        inventory = new BenchmarkInventory("Open");
+        updatableInventory = new BenchmarkInventory("Update");
+        updatableInventory.fillWithUpdatableSlots();
+        updatableInventory.open(server.createPlayer("InventoryBenchmarkViewer"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.getPlayers().forEach(Player::closeInventory);
+        inventory.remove();
+        updatableInventory.remove();
+    }
+
+    // Includes closing the previous session
+    @Benchmark
+    public void open() {
+        inventory.open(player);
+    }
+
+    @Benchmark
+    public void update() {
+        updatableInventory.update();
+    }
+
+    @Benchmark
+    public void addItem() {
+        slot = (slot + 1) % inventory.getSlots();
+        inventory.addItem(slot, slot % 2 == 0 ? BenchmarkInventory.STONE : BenchmarkInventory.DIAMOND);
+    }
+
+    @Benchmark
+    public void addItemsAndFlush() {
+        inventory.edit(edited -> {
+            for (int i = 0; i < edited.getSlots(); i++)
+                edited.addItem(i, i % 2 == 0 ? BenchmarkInventory.STONE : BenchmarkInventory.DIAMOND);
+        });
+    }
+
+    // Scheduler tick with the flushes requested by addItem
+    @Benchmark
+    public void tick() {
+        server.tick();
+    }
+
+}
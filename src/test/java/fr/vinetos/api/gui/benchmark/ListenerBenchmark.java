@@ -0,0 +1,124 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui.benchmark;
+
+import fr.vinetos.api.gui.AbstractInventory;
+import fr.vinetos.api.gui.InventoryListener;
+import fr.vinetos.api.gui.fake.FakeServer;
+import org.bukkit.Material;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Player;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ListenerBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    public int guis;
+
+    private final List<AbstractInventory> inventories = new ArrayList<>();
+    private final InventoryListener listener = new InventoryListener();
+    private Player player;
+    private InventoryClickEvent click;
+    private PlayerInteractEvent interact;
+
+    @Setup
+    public void setUp() {
+        final FakeServer server = FakeServer.install();
+
+        for (int i = 0; i < guis; i++) {
+            final BenchmarkInventory inventory = new BenchmarkInventory("Benchmark " + i);
+            inventory.setOpener(FakeServer.namedItem(Material.COMPASS, "Menu " + i));
+            inventories.add(inventory);
+        }
+
+        // The last registered GUI is the worst case of a linear scan
+        player = server.createPlayer("ListenerBenchmark");
+        inventories.get(guis - 1).open(player);
+        click = server.createClick(player, 13, ClickType.LEFT);
+
+        player.getInventory().setItemInMainHand(FakeServer.namedItem(Material.COMPASS, "Menu " + (guis - 1)));
+        interact = new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR, player.getInventory().getItemInMainHand(), null, BlockFace.SELF);
+    }
+
+    @TearDown
+    public void tearDown() {
+        player.closeInventory();
+        inventories.forEach(AbstractInventory::remove);
+        inventories.clear();
+    }
+
+    @Benchmark
+    public boolean onClickOnItem() {
+        click.setCancelled(false);
+        listener.onClickOnItem(click);
+        return click.isCancelled();
+    }
+
+    @Benchmark
+    public boolean onInteractWithItem() {
+        interact.setCancelled(false);
+        listener.onInteractWithItem(interact);
+        return interact.isCancelled();
+    }
+
+}
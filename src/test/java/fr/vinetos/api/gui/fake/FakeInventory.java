@@ -0,0 +1,124 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui.fake;
+
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class FakeInventory implements InvocationHandler {
+
+    private final FakeServer server;
+    private final InventoryHolder holder;
+    private final String title;
+    private final ItemStack[] contents;
+    private final List<HumanEntity> viewers = new ArrayList<>();
+    private final Inventory inventory;
+
+    FakeInventory(FakeServer server, InventoryHolder holder, int size, String title) {
+        this.server = server;
+        this.holder = holder;
+        this.title = title;
+        this.contents = new ItemStack[size];
+        this.inventory = FakeServer.proxy(Inventory.class, this);
+    }
+
+    Inventory getInventory() {
+        return inventory;
+    }
+
+    private void write(int slot, ItemStack itemStack) {
+        contents[slot] = itemStack;
+        server.slotWrites++;
+        for (HumanEntity viewer : viewers)
+            if (viewer != server.closingPlayer)
+                server.slotPackets++;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getSize":
+                return contents.length;
+            case "getName":
+            case "getTitle":
+                return title;
+            case "getHolder":
+                return holder;
+            case "getType":
+                return InventoryType.CHEST;
+            case "getMaxStackSize":
+                return 64;
+            case "getViewers":
+                return viewers;
+            case "getItem":
+                return contents[(Integer) args[0]];
+            case "setItem":
+                write((Integer) args[0], (ItemStack) args[1]);
+                return null;
+            case "getContents":
+            case "getStorageContents":
+                return contents.clone();
+            case "setContents":
+            case "setStorageContents":
+                final ItemStack[] items = (ItemStack[]) args[0];
+                Arrays.fill(contents, null);
+                for (int slot = 0; slot < Math.min(items.length, contents.length); slot++)
+                    write(slot, items[slot]);
+                return null;
+            case "clear":
+                if (args == null || args.length == 0) {
+                    for (int slot = 0; slot < contents.length; slot++)
+                        write(slot, null);
+                } else {
+                    write((Integer) args[0], null);
+                }
+                return null;
+            default:
+                return FakeServer.handleObject(proxy, method, args, "FakeInventory{" + title + '}');
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui.fake;
+
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// Only keeps the display name and the lore
+final class FakeItemMeta implements InvocationHandler {
+
+    private String displayName;
+    private List<String> lore;
+
+    private FakeItemMeta(String displayName, List<String> lore) {
+        this.displayName = displayName;
+        this.lore = lore;
+    }
+
+    static ItemMeta create() {
+        return FakeServer.proxy(ItemMeta.class, new FakeItemMeta(null, null));
+    }
+
+    static boolean isEmpty(ItemMeta meta) {
+        if (meta == null)
+            return true;
+
+        final FakeItemMeta handler = (FakeItemMeta) Proxy.getInvocationHandler(meta);
+        return handler.displayName == null && handler.lore == null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> castLore(Object lore) {
+        return (List<String>) lore;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "hasDisplayName":
+                return displayName != null;
+            case "getDisplayName":
+                return displayName;
+            case "setDisplayName":
+                displayName = (String) args[0];
+                return null;
+            case "hasLore":
+                return lore != null;
+            case "getLore":
+                return lore == null ? null : new ArrayList<>(lore);
+            case "setLore":
+                lore = args[0] == null ? null : new ArrayList<>(castLore(args[0]));
+                return null;
+            case "clone":
+                return FakeServer.proxy(ItemMeta.class, new FakeItemMeta(displayName, lore == null ? null : new ArrayList<>(lore)));
+            case "equals":
+                if (args[0] == null || !Proxy.isProxyClass(args[0].getClass()) || !(Proxy.getInvocationHandler(args[0]) instanceof FakeItemMeta))
+                    return false;
+                final FakeItemMeta that = (FakeItemMeta) Proxy.getInvocationHandler(args[0]);
+                return Objects.equals(displayName, that.displayName) && Objects.equals(lore, that.lore);
+            case "hashCode":
+                return Objects.hash(displayName, lore);
+            case "toString":
+                return "FakeItemMeta{" + "displayName=" + displayName + ",lore=" + lore + '}';
+            default:
+                return FakeServer.defaultValue(method.getReturnType());
+        }
+    }
+}
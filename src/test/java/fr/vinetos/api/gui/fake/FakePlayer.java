@@ -0,0 +1,151 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui.fake;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.UUID;
+
+final class FakePlayer implements InvocationHandler {
+
+    private final FakeServer server;
+    private final UUID uniqueId;
+    private final String name;
+    private final int entityId;
+    private final Player player;
+    private final PlayerInventory playerInventory;
+    private ItemStack itemInMainHand;
+    private FakeInventoryView view;
+
+    FakePlayer(FakeServer server, UUID uniqueId, String name, int entityId) {
+        this.server = server;
+        this.uniqueId = uniqueId;
+        this.name = name;
+        this.entityId = entityId;
+        this.player = FakeServer.proxy(Player.class, this);
+        this.playerInventory = FakeServer.proxy(PlayerInventory.class, this::handleInventory);
+    }
+
+    Player getPlayer() {
+        return player;
+    }
+
+    // Same order as the server: close the current view, then open the new one
+    private FakeInventoryView open(Inventory inventory) {
+        close();
+
+        final FakeInventoryView opened = new FakeInventoryView(player, inventory, playerInventory);
+        if (server.callEvent(new InventoryOpenEvent(opened)).isCancelled())
+            return null;
+
+        view = opened;
+        inventory.getViewers().add(player);
+        return view;
+    }
+
+    private void close() {
+        if (view == null)
+            return;
+
+        final FakeInventoryView closed = view;
+        server.closingPlayer = player;
+        try {
+            server.callEvent(new InventoryCloseEvent(closed));
+        } finally {
+            server.closingPlayer = null;
+        }
+        closed.getTopInventory().getViewers().remove(player);
+        view = null;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getUniqueId":
+                return uniqueId;
+            case "getName":
+            case "getDisplayName":
+                return name;
+            case "getEntityId":
+                return entityId;
+            case "isOnline":
+                return true;
+            case "getInventory":
+                return playerInventory;
+            case "getOpenInventory":
+                // Like the server, the view of the player's own inventory when nothing is opened
+                return view != null ? view : new FakeInventoryView(player, playerInventory, playerInventory);
+            case "openInventory":
+                return args[0] instanceof Inventory ? open((Inventory) args[0]) : null;
+            case "closeInventory":
+                close();
+                return null;
+            case "updateInventory":
+                server.inventoryUpdates++;
+                return null;
+            default:
+                return FakeServer.handleObject(proxy, method, args, "FakePlayer{" + name + '}');
+        }
+    }
+
+    private Object handleInventory(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getItemInMainHand":
+                return itemInMainHand;
+            case "setItemInMainHand":
+                itemInMainHand = (ItemStack) args[0];
+                return null;
+            case "getSize":
+                return 41;
+            case "getType":
+                return InventoryType.PLAYER;
+            case "getHolder":
+                return player;
+            default:
+                return FakeServer.handleObject(proxy, method, args, "FakePlayerInventory{" + name + '}');
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui.fake;
+
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Runs sync tasks when tick() is called, async ones on a background thread
+public final class FakeScheduler {
+
+    private final FakeServer server;
+    private final BukkitScheduler scheduler;
+    private final List<Task> tasks = new ArrayList<>();
+    private final ExecutorService asyncExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "FakeScheduler-async");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private int nextTaskId;
+    private long currentTick;
+
+    FakeScheduler(FakeServer server) {
+        this.server = server;
+        this.scheduler = FakeServer.proxy(BukkitScheduler.class, this::handle);
+    }
+
+    BukkitScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public void tick() {
+        currentTick++;
+
+        // Tasks may schedule other tasks
+        final List<Task> due = new ArrayList<>();
+        synchronized (tasks) {
+            tasks.removeIf(task -> task.cancelled);
+            for (Task task : tasks)
+                if (task.nextRun <= currentTick)
+                    due.add(task);
+        }
+
+        for (Task task : due) {
+            if (task.cancelled)
+                continue;
+
+            server.measure(task.runnable);
+            if (task.period > 0)
+                task.nextRun = currentTick + task.period;
+            else
+                task.cancelled = true;
+        }
+    }
+
+    private Object handle(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "runTask":
+                return schedule((Runnable) args[1], 0, -1);
+            case "runTaskLater":
+                return schedule((Runnable) args[1], (Long) args[2], -1);
+            case "runTaskTimer":
+                return schedule((Runnable) args[1], (Long) args[2], (Long) args[3]);
+            case "runTaskAsynchronously":
+                asyncExecutor.execute((Runnable) args[1]);
+                return new Task(++nextTaskId, (Runnable) args[1], -1, -1).getBukkitTask();
+            case "cancelTasks":
+                synchronized (tasks) {
+                    tasks.forEach(task -> task.cancelled = true);
+                }
+                return null;
+            default:
+                return FakeServer.handleObject(proxy, method, args, "FakeScheduler");
+        }
+    }
+
+    private BukkitTask schedule(Runnable runnable, long delay, long period) {
+        final Task task = new Task(++nextTaskId, runnable, currentTick + Math.max(1, delay), period);
+        synchronized (tasks) {
+            tasks.add(task);
+        }
+        return task.getBukkitTask();
+    }
+
+    private static final class Task {
+
+        private final int id;
+        private final Runnable runnable;
+        private final long period;
+        private long nextRun;
+        private volatile boolean cancelled;
+
+        Task(int id, Runnable runnable, long nextRun, long period) {
+            this.id = id;
+            this.runnable = runnable;
+            this.nextRun = nextRun;
+            this.period = period;
+        }
+
+        BukkitTask getBukkitTask() {
+            return FakeServer.proxy(BukkitTask.class, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "cancel":
+                        cancelled = true;
+                        return null;
+                    case "isCancelled":
+                        return cancelled;
+                    case "getTaskId":
+                        return id;
+                    case "isSync":
+                        return period != -1 || nextRun != -1;
+                    default:
+                        return FakeServer.handleObject(proxy, method, args, "Task#" + id);
+                }
+            });
+        }
+    }
+}
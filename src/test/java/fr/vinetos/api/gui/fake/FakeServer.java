@@ -0,0 +1,377 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui.fake;
+
+import fr.vinetos.api.gui.BukkitGUIAPI;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+// Offline stand-in for the Bukkit server, only implements what the library uses
+public final class FakeServer {
+
+    private static FakeServer instance;
+
+    private final Thread mainThread = Thread.currentThread();
+    private final Logger logger = Logger.getLogger("FakeServer");
+    private final Server server;
+    private final Plugin plugin;
+    private final FakeScheduler scheduler;
+    private final ItemFactory itemFactory;
+    private final PluginManager pluginManager;
+    private final List<RegisteredHandler> handlers = new ArrayList<>();
+    private final Map<UUID, Player> players = new LinkedHashMap<>();
+    private int nextEntityId;
+
+    // Packet equivalent counters
+    long inventoriesCreated;
+    long slotWrites;
+    long slotPackets;
+    long inventoryUpdates;
+    // Still a viewer during its close event, but nothing is sent to it anymore
+    HumanEntity closingPlayer;
+    // Time spent in library code: listeners, tasks and calls wrapped by measure()
+    private long libraryNanos;
+    private int measureDepth;
+
+    private FakeServer() {
+        this.scheduler = new FakeScheduler(this);
+        this.server = proxy(Server.class, this::handleServer);
+        this.plugin = proxy(Plugin.class, this::handlePlugin);
+        this.itemFactory = proxy(ItemFactory.class, this::handleItemFactory);
+        this.pluginManager = proxy(PluginManager.class, this::handlePluginManager);
+    }
+
+    // Also initializes the library, like a plugin would on enable
+    public static synchronized FakeServer install() {
+        if (instance == null) {
+            instance = new FakeServer();
+            Bukkit.setServer(instance.server);
+            BukkitGUIAPI.init(instance.plugin);
+        }
+        return instance;
+    }
+
+    public Plugin getPlugin() {
+        return plugin;
+    }
+
+    public FakeScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public Logger getLogger() {
+        return logger;
+    }
+
+    boolean isPrimaryThread() {
+        return Thread.currentThread() == mainThread;
+    }
+
+    public Player createPlayer(String name) {
+        final FakePlayer handler = new FakePlayer(this, UUID.randomUUID(), name, ++nextEntityId);
+        final Player player = handler.getPlayer();
+        players.put(player.getUniqueId(), player);
+        return player;
+    }
+
+    public Collection<Player> getPlayers() {
+        return Collections.unmodifiableCollection(players.values());
+    }
+
+    public void removePlayer(Player player) {
+        players.remove(player.getUniqueId());
+    }
+
+    public static ItemStack namedItem(Material type, String name) {
+        final ItemStack itemStack = new ItemStack(type);
+        final ItemMeta meta = itemStack.getItemMeta();
+        meta.setDisplayName(name);
+        itemStack.setItemMeta(meta);
+        return itemStack;
+    }
+
+    public InventoryClickEvent createClick(Player player, int rawSlot, ClickType click) {
+        return new InventoryClickEvent(player.getOpenInventory(), InventoryType.SlotType.CONTAINER, rawSlot, click, InventoryAction.PICKUP_ALL);
+    }
+
+    public InventoryClickEvent click(Player player, int rawSlot, ClickType click) {
+        return callEvent(createClick(player, rawSlot, click));
+    }
+
+    public PlayerInteractEvent interact(Player player) {
+        final ItemStack item = player.getInventory().getItemInMainHand();
+        return callEvent(new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR, item, null, BlockFace.SELF));
+    }
+
+    public void tick() {
+        scheduler.tick();
+    }
+
+    public long getInventoriesCreated() {
+        return inventoriesCreated;
+    }
+
+    public long getSlotWrites() {
+        return slotWrites;
+    }
+
+    // Slot writes multiplied by the viewers they are sent to
+    public long getSlotPackets() {
+        return slotPackets;
+    }
+
+    public long getInventoryUpdates() {
+        return inventoryUpdates;
+    }
+
+    public void resetCounters() {
+        inventoriesCreated = 0;
+        slotWrites = 0;
+        slotPackets = 0;
+        inventoryUpdates = 0;
+        libraryNanos = 0;
+    }
+
+    public long getLibraryNanos() {
+        return libraryNanos;
+    }
+
+    // Nested calls are only counted once
+    public void measure(Runnable call) {
+        final boolean outermost = measureDepth++ == 0;
+        final long start = outermost ? System.nanoTime() : 0L;
+        try {
+            call.run();
+        } finally {
+            measureDepth--;
+            if (outermost)
+                libraryNanos += System.nanoTime() - start;
+        }
+    }
+
+    public <T extends Event> T callEvent(T event) {
+        for (RegisteredHandler handler : handlers)
+            measure(() -> handler.call(event));
+        return event;
+    }
+
+    private Object handleServer(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getLogger":
+                return logger;
+            case "getName":
+            case "getVersion":
+            case "getBukkitVersion":
+                return "FakeServer";
+            case "createInventory":
+                inventoriesCreated++;
+                final int size = args[1] instanceof Integer ? (Integer) args[1] : 27;
+                final String title = args.length > 2 ? (String) args[2] : "Chest";
+                return new FakeInventory(this, (InventoryHolder) args[0], size, title).getInventory();
+            case "getScheduler":
+                return scheduler.getScheduler();
+            case "getPluginManager":
+                return pluginManager;
+            case "getItemFactory":
+                return itemFactory;
+            case "isPrimaryThread":
+                return isPrimaryThread();
+            case "getPlayer":
+                return args[0] instanceof UUID ? players.get(args[0]) : null;
+            case "getOnlinePlayers":
+                return getPlayers();
+            default:
+                return handleObject(proxy, method, args, "FakeServer");
+        }
+    }
+
+    private Object handlePlugin(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getServer":
+                return server;
+            case "getLogger":
+                return logger;
+            case "getName":
+                return "FakePlugin";
+            case "isEnabled":
+                return true;
+            default:
+                return handleObject(proxy, method, args, "FakePlugin");
+        }
+    }
+
+    private Object handleItemFactory(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getItemMeta":
+                return FakeItemMeta.create();
+            case "isApplicable":
+                return true;
+            case "asMetaFor":
+                return args[0];
+            case "equals":
+                if (args.length == 2)
+                    return FakeItemMeta.isEmpty((ItemMeta) args[0]) ? FakeItemMeta.isEmpty((ItemMeta) args[1]) : args[0].equals(args[1]);
+                return proxy == args[0];
+            default:
+                return handleObject(proxy, method, args, "FakeItemFactory");
+        }
+    }
+
+    private Object handlePluginManager(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "registerEvents":
+                register((Listener) args[0]);
+                return null;
+            case "callEvent":
+                callEvent((Event) args[0]);
+                return null;
+            default:
+                return handleObject(proxy, method, args, "FakePluginManager");
+        }
+    }
+
+    private void register(Listener listener) {
+        for (Method method : listener.getClass().getMethods()) {
+            final EventHandler eventHandler = method.getAnnotation(EventHandler.class);
+            if (eventHandler != null && method.getParameterCount() == 1)
+                handlers.add(new RegisteredHandler(listener, method, eventHandler));
+        }
+        handlers.sort(Comparator.comparingInt(handler -> handler.eventHandler.priority().ordinal()));
+    }
+
+    static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(FakeServer.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    // Object methods and harmless defaults for everything else
+    static Object handleObject(Object proxy, Method method, Object[] args, String name) {
+        switch (method.getName()) {
+            case "equals":
+                return args != null && args.length == 1 && proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return name;
+            default:
+                return defaultValue(method.getReturnType());
+        }
+    }
+
+    static Object defaultValue(Class<?> type) {
+        if (type == boolean.class)
+            return false;
+        if (type == int.class)
+            return 0;
+        if (type == long.class)
+            return 0L;
+        if (type == double.class)
+            return 0D;
+        if (type == float.class)
+            return 0F;
+        if (type == short.class)
+            return (short) 0;
+        if (type == byte.class)
+            return (byte) 0;
+        if (type == char.class)
+            return '\0';
+        return null;
+    }
+
+    private static final class RegisteredHandler {
+
+        private final Listener listener;
+        private final Method method;
+        private final EventHandler eventHandler;
+
+        RegisteredHandler(Listener listener, Method method, EventHandler eventHandler) {
+            this.listener = listener;
+            this.method = method;
+            this.eventHandler = eventHandler;
+        }
+
+        void call(Event event) {
+            if (!method.getParameterTypes()[0].isInstance(event))
+                return;
+            if (eventHandler.ignoreCancelled() && event instanceof Cancellable && ((Cancellable) event).isCancelled())
+                return;
+
+            try {
+                method.invoke(listener, event);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+}
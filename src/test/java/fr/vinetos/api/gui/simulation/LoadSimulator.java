@@ -0,0 +1,262 @@
+/*
+ * ==============================================================================
+ *            _    _______   __________________  _____
+ *            | |  / /  _/ | / / ____/_  __/ __ \/ ___/
+ *            | | / // //  |/ / __/   / / / / / /\__ \
+ *            | |/ // // /|  / /___  / / / /_/ /___/ /
+ *            |___/___/_/ |_/_____/ /_/  \____//____/
+ *
+ * ==============================================================================
+ *
+ * BukkitGUIAPI Copyright (C) 2017  Vinetos
+ * 
+ * ==============================================================================
+ * 
+ * This file is part of BukkitGUIAPI.
+ * 
+ * BukkitGUIAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License.
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in 
+ * the Software without restriction, including without limitation the rights to 
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies 
+ * of the Software, and to permit persons to whom the Software is furnished to do so, 
+ * subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all 
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS 
+ * FOR A PARTICULAR PURPOSE AND NONINFINGEMENT. IN NO EVENT SHALL THE AUTHORS OR 
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER 
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ *==============================================================================
+ */
+package fr.vinetos.api.gui.simulation;
+
+import fr.vinetos.api.gui.AbstractInventory;
+import fr.vinetos.api.gui.BukkitGUIAPI;
+import fr.vinetos.api.gui.ClickType;
+import fr.vinetos.api.gui.GuiSession;
+import fr.vinetos.api.gui.ItemSource;
+import fr.vinetos.api.gui.PaginatedInventory;
+import fr.vinetos.api.gui.UpdatableItemStackSlot;
+import fr.vinetos.api.gui.fake.FakeServer;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Many players opening, clicking and closing GUIs in the same ticks
+// Usage: LoadSimulator [players] [ticks] [seed], or mvn -P simulation test
+public class LoadSimulator {
+
+    private static final Material[] MATERIALS = {Material.STONE, Material.APPLE, Material.DIAMOND, Material.PAPER};
+
+    private final FakeServer server;
+    private final Random random;
+    private final List<Player> players = new ArrayList<>();
+    private final List<AbstractInventory> inventories = new ArrayList<>();
+    // Only the time spent in the listeners, the scheduler and open(), not in the script
+    private final long[] tickTimes;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private long baselineHeap;
+    private long peakRetainedHeap;
+
+    public LoadSimulator(int players, int ticks, long seed) {
+        this.server = FakeServer.install();
+        this.random = new Random(seed);
+        this.tickTimes = new long[ticks];
+
+        for (int i = 0; i < players; i++) {
+            final Player player = server.createPlayer("Player" + i);
+            player.getInventory().setItemInMainHand(FakeServer.namedItem(Material.COMPASS, "Stats"));
+            this.players.add(player);
+        }
+
+        // Whatever survives a GC from now on belongs to the GUIs, their sessions and inventories
+        baselineHeap = usedHeapAfterGc();
+
+        inventories.add(new StatsMenu());
+        inventories.add(new ProfileMenu());
+        inventories.add(new ShopMenu(20000));
+    }
+
+    public static void main(String[] args) {
+        final int players = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        final int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 600;
+        final long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        BukkitGUIAPI.setMetricsEnabled(true);
+        new LoadSimulator(players, ticks, seed).run();
+    }
+
+    public void run() {
+        server.resetCounters();
+
+        for (int tick = 0; tick < tickTimes.length; tick++) {
+            final long start = server.getLibraryNanos();
+            for (Player player : players)
+                act(player);
+            server.tick();
+            tickTimes[tick] = server.getLibraryNanos() - start;
+
+            if (tick % 100 == 99)
+                peakRetainedHeap = Math.max(peakRetainedHeap, usedHeapAfterGc() - baselineHeap);
+        }
+
+        players.forEach(Player::closeInventory);
+        report();
+    }
+
+    // Scripted behaviour of one player during one tick
+    private void act(Player player) {
+        final InventoryView view = player.getOpenInventory();
+        final int roll = random.nextInt(100);
+
+        if (view.getTopInventory() == player.getInventory()) {
+            // The stats menu is opened with its item
+            if (roll < 4)
+                server.interact(player);
+            else if (roll < 10)
+                open(inventories.get(1 + random.nextInt(inventories.size() - 1)), player);
+            return;
+        }
+
+        if (roll < 30)
+            server.click(player, random.nextInt(view.getTopInventory().getSize()), org.bukkit.event.inventory.ClickType.LEFT);
+        else if (roll < 35)
+            player.closeInventory();
+    }
+
+    private void open(AbstractInventory inventory, Player player) {
+        server.measure(() -> inventory.open(player));
+    }
+
+    // Until the used heap stops shrinking
+    private long usedHeapAfterGc() {
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            final long now = memory.getHeapMemoryUsage().getUsed();
+            if (now >= used)
+                break;
+            used = now;
+        }
+        return used;
+    }
+
+    private void report() {
+        final long[] sorted = tickTimes.clone();
+        Arrays.sort(sorted);
+        final long total = Arrays.stream(sorted).sum();
+
+        System.out.println("== LoadSimulator: " + players.size() + " players, " + tickTimes.length + " ticks ==");
+        System.out.printf("Library time per tick mean %.3f ms, p50 %.3f ms, p99 %.3f ms, max %.3f ms%n",
+                millis(total / sorted.length), millis(sorted[sorted.length / 2]),
+                millis(sorted[(int) (sorted.length * 0.99)]), millis(sorted[sorted.length - 1]));
+        System.out.printf("Peak retained by GUIs %.1f MiB (GUIs, sessions, pooled and open inventories)%n", peakRetainedHeap / (1024.0 * 1024.0));
+        System.out.println("Inventories created   " + server.getInventoriesCreated());
+        System.out.println("Inventories reused    " + BukkitGUIAPI.getReusedInventories());
+        System.out.println("Slot writes           " + server.getSlotWrites());
+        System.out.println("Slot packets          " + server.getSlotPackets());
+        System.out.println("updateInventory calls " + server.getInventoryUpdates());
+        for (AbstractInventory inventory : inventories)
+            System.out.println(inventory.getMetrics());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static ItemStack randomItem(Random random) {
+        return new ItemStack(MATERIALS[random.nextInt(MATERIALS.length)], 1 + random.nextInt(64));
+    }
+
+    // Shared menu refreshed every second
+    private static final class StatsMenu extends AbstractInventory {
+
+        StatsMenu() {
+            super(54, "Stats", "Server stats");
+            setOpener(FakeServer.namedItem(Material.COMPASS, "Stats"));
+
+            final Random random = new Random(1);
+            for (int slot = 0; slot < getSlots(); slot++) {
+                setItem(new UpdatableItemStackSlot(randomItem(random), slot, 20) {
+                    @Override
+                    public void update() {
+                        setItemStack(randomItem(random));
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void onItemInteract(Player player, PlayerInteractEvent event) {
+            event.setCancelled(true);
+            open(player);
+        }
+
+    }
+
+    // Personal menu with a few per-player slots
+    private static final class ProfileMenu extends AbstractInventory {
+
+        ProfileMenu() {
+            super(27, "Profile", "Your profile", true);
+
+            for (int slot = 0; slot < getSlots(); slot++)
+                addItem(slot, new ItemStack(Material.STAINED_GLASS_PANE));
+        }
+
+        @Override
+        protected void onSessionOpen(GuiSession session) {
+            session.addItem(13, new ItemStack(Material.SKULL_ITEM));
+            session.addItem(11, new ItemStack(Material.DIAMOND, 1 + (session.getPlayerId().hashCode() & 63)));
+        }
+
+        @Override
+        public void onItemClick(Player player, ItemStack itemStack, ClickType clickType, InventoryClickEvent event) {
+            event.setCancelled(true);
+            getSession(player).addItem(15, new ItemStack(Material.PAPER, 1 + (int) (System.nanoTime() & 31)));
+        }
+
+    }
+
+    // Large catalogue, only the viewed page is built
+    private static final class ShopMenu extends PaginatedInventory {
+
+        ShopMenu(int entries) {
+            super(54, "Shop", "Shop", new ItemSource() {
+                @Override
+                public int size() {
+                    return entries;
+                }
+
+                @Override
+                public ItemStack get(int index) {
+                    return new ItemStack(MATERIALS[index % MATERIALS.length], 1 + index % 64);
+                }
+            });
+        }
+
+        @Override
+        public void onPageItemClick(Player player, int index, ItemStack itemStack, ClickType clickType, InventoryClickEvent event) {
+        }
+
+    }
+
+}